@@ -1,7 +1,11 @@
 package com.extrascenes;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import com.extrascenes.scene.SceneActorTemplate;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 import org.bukkit.Bukkit;
@@ -11,28 +15,39 @@ import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
+/**
+ * Soft-dependency bridge to Citizens. Every API method is resolved once in {@link #detect()} and bound to a
+ * {@link MethodHandle} typed with plain {@code Object} receivers, so per-tick calls skip the access checks,
+ * argument arrays and primitive boxing of {@code Method.invoke}.
+ */
 public class CitizensAdapter {
     private final ExtraScenesPlugin plugin;
     private boolean available;
     private Object npcRegistry;
-    private Method createNpcMethod;
-    private Method npcSpawnMethod;
-    private Method npcDestroyMethod;
-    private Method npcGetEntityMethod;
-    private Method npcGetOrAddTraitMethod;
-    private Method npcSetProtectedMethod;
-    private Method npcSetUseMinecraftAI;
-    private Method npcSetMoveDestinationMethod;
-    private Method npcDataMethod;
-    private Method dataSetPersistentMethod;
-    private Method hologramTraitSetUseNameMethod;
-    private Method playerFilterSetMethod;
-    private Method skinTraitSetSkinNameMethod;
-    private Method skinTraitSetSkinPersistentMethod;
-    private Method skinTraitGetSignatureMethod;
-    private Method skinTraitGetTextureMethod;
-    private Method npcGetIdMethod;
-    private Method npcRegistryGetByIdMethod;
+    private Object sceneNpcRegistry;
+    private Class<?> skinTraitClass;
+    private Class<?> playerFilterClass;
+    private Class<?> hologramTraitClass;
+    private MethodHandle registryDeregisterAllHandle;
+    private MethodHandle createNpcHandle;
+    private MethodHandle npcSpawnHandle;
+    private MethodHandle npcDestroyHandle;
+    private MethodHandle npcSetNameHandle;
+    private MethodHandle npcGetEntityHandle;
+    private MethodHandle npcGetOrAddTraitHandle;
+    private MethodHandle npcSetProtectedHandle;
+    private MethodHandle npcSetUseMinecraftAIHandle;
+    private MethodHandle npcSetMoveDestinationHandle;
+    private MethodHandle npcDataHandle;
+    private MethodHandle dataSetBooleanHandle;
+    private MethodHandle hologramTraitSetUseNameHandle;
+    private MethodHandle playerFilterSetHandle;
+    private MethodHandle skinTraitSetSkinNameHandle;
+    private MethodHandle skinTraitSetSkinPersistentHandle;
+    private MethodHandle skinTraitGetSignatureHandle;
+    private MethodHandle skinTraitGetTextureHandle;
+    private MethodHandle npcGetIdHandle;
+    private MethodHandle npcRegistryGetByIdHandle;
 
     public CitizensAdapter(ExtraScenesPlugin plugin) {
         this.plugin = plugin;
@@ -48,8 +63,8 @@ public class CitizensAdapter {
             return null;
         }
         try {
-            return createNpcMethod.invoke(npcRegistry, type, displayName == null ? "" : displayName);
-        } catch (Exception ex) {
+            return (Object) createNpcHandle.invokeExact(sceneNpcRegistry, type, displayName == null ? "" : displayName);
+        } catch (Throwable ex) {
             available = false;
             plugin.getLogger().warning("Citizens API unavailable while creating NPC: " + ex.getMessage());
             return null;
@@ -61,11 +76,11 @@ public class CitizensAdapter {
             return;
         }
         try {
-            Object skinTrait = npcGetOrAddTraitMethod.invoke(npc, resolveClass("net.citizensnpcs.trait.SkinTrait"));
+            Object skinTrait = (Object) npcGetOrAddTraitHandle.invokeExact(npc, skinTraitClass);
             if (skinTrait != null) {
-                skinTraitSetSkinNameMethod.invoke(skinTrait, skinName);
+                skinTraitSetSkinNameHandle.invokeExact(skinTrait, skinName);
             }
-        } catch (Exception ex) {
+        } catch (Throwable ex) {
             plugin.getLogger().warning("Failed to apply Citizens skin: " + ex.getMessage());
         }
     }
@@ -74,49 +89,80 @@ public class CitizensAdapter {
         if (!available || npc == null || actorTemplate == null) {
             return;
         }
-        if (skinTraitSetSkinPersistentMethod == null
+        if (skinTraitSetSkinPersistentHandle == null
                 || actorTemplate.getSkinTexture() == null || actorTemplate.getSkinTexture().isBlank()
                 || actorTemplate.getSkinSignature() == null || actorTemplate.getSkinSignature().isBlank()) {
             applySkin(npc, actorTemplate.getSkinName());
             return;
         }
         try {
-            Object skinTrait = npcGetOrAddTraitMethod.invoke(npc, resolveClass("net.citizensnpcs.trait.SkinTrait"));
+            Object skinTrait = (Object) npcGetOrAddTraitHandle.invokeExact(npc, skinTraitClass);
             if (skinTrait != null) {
                 String key = actorTemplate.getSkinCacheKey() == null || actorTemplate.getSkinCacheKey().isBlank()
                         ? actorTemplate.getSkinName() : actorTemplate.getSkinCacheKey();
-                skinTraitSetSkinPersistentMethod.invoke(skinTrait, key, actorTemplate.getSkinSignature(), actorTemplate.getSkinTexture());
+                skinTraitSetSkinPersistentHandle.invokeExact(skinTrait, key, actorTemplate.getSkinSignature(),
+                        actorTemplate.getSkinTexture());
             }
-        } catch (Exception ex) {
+        } catch (Throwable ex) {
             plugin.getLogger().warning("Failed to apply persistent skin: " + ex.getMessage());
         }
     }
 
     public boolean applyPlayerFilter(Object npc, UUID sessionOwner) {
-        if (!available || npc == null || sessionOwner == null || playerFilterSetMethod == null) {
+        if (sessionOwner == null) {
+            return false;
+        }
+        return applyPlayerFilter(npc, Set.of(sessionOwner));
+    }
+
+    /**
+     * Limits the NPC to the given viewers. The set is read live, so viewers added later are let through too.
+     */
+    public boolean applyPlayerFilter(Object npc, Set<UUID> viewers) {
+        if (!available || npc == null || viewers == null || playerFilterSetHandle == null) {
             return false;
         }
         try {
-            Object playerFilter = npcGetOrAddTraitMethod.invoke(npc,
-                    resolveClass("net.citizensnpcs.trait.versioned.PlayerFilter"));
+            Object playerFilter = (Object) npcGetOrAddTraitHandle.invokeExact(npc, playerFilterClass);
             if (playerFilter == null) {
                 return false;
             }
-            Predicate<Player> predicate = player -> !player.getUniqueId().equals(sessionOwner);
-            playerFilterSetMethod.invoke(playerFilter, predicate);
+            Predicate<Player> predicate = player -> !viewers.contains(player.getUniqueId());
+            playerFilterSetHandle.invokeExact(playerFilter, predicate);
             return true;
-        } catch (Exception ex) {
+        } catch (Throwable ex) {
             plugin.getLogger().warning("Failed to apply Citizens PlayerFilter: " + ex.getMessage());
             return false;
         }
     }
 
+    /**
+     * @return true when scene actors live in their own in-memory registry instead of Citizens' saved one
+     */
+    public boolean isSceneRegistryIsolated() {
+        return available && sceneNpcRegistry != null && sceneNpcRegistry != npcRegistry;
+    }
+
+    /**
+     * Despawns and drops every scene actor in one call. Only touches the isolated registry, never the saved one.
+     */
+    public void deregisterSceneNpcs() {
+        if (!isSceneRegistryIsolated() || registryDeregisterAllHandle == null) {
+            return;
+        }
+        try {
+            registryDeregisterAllHandle.invokeExact(sceneNpcRegistry);
+        } catch (Throwable ex) {
+            plugin.getLogger().warning("Failed to deregister scene NPCs: " + ex.getMessage());
+        }
+    }
+
     public boolean supportsPlayerFilter() {
-        return available && playerFilterSetMethod != null;
+        return available && playerFilterSetHandle != null;
     }
 
     public Integer resolveSelectedNpcId(Player player) {
-        if (!available || player == null || npcRegistryGetByIdMethod == null) {
+        if (!available || player == null || npcRegistryGetByIdHandle == null) {
             return null;
         }
         try {
@@ -124,36 +170,36 @@ public class CitizensAdapter {
             Object selector = getSelected.invoke(null);
             Method selected = selector.getClass().getMethod("getSelected", Player.class);
             Object npc = selected.invoke(selector, player);
-            if (npc == null || npcGetIdMethod == null) {
+            if (npc == null || npcGetIdHandle == null) {
                 return null;
             }
-            return (Integer) npcGetIdMethod.invoke(npc);
-        } catch (Exception ex) {
+            return (int) npcGetIdHandle.invokeExact(npc);
+        } catch (Throwable ex) {
             return null;
         }
     }
 
     public boolean copySkinFromNpc(SceneActorTemplate target, int npcId) {
-        if (!available || target == null || npcRegistryGetByIdMethod == null) {
+        if (!available || target == null || npcRegistryGetByIdHandle == null) {
             return false;
         }
         try {
-            Object sourceNpc = npcRegistryGetByIdMethod.invoke(npcRegistry, npcId);
+            Object sourceNpc = (Object) npcRegistryGetByIdHandle.invokeExact(npcRegistry, npcId);
             if (sourceNpc == null) {
                 return false;
             }
-            Object skinTrait = npcGetOrAddTraitMethod.invoke(sourceNpc, resolveClass("net.citizensnpcs.trait.SkinTrait"));
-            if (skinTrait == null || skinTraitGetTextureMethod == null || skinTraitGetSignatureMethod == null) {
+            Object skinTrait = (Object) npcGetOrAddTraitHandle.invokeExact(sourceNpc, skinTraitClass);
+            if (skinTrait == null || skinTraitGetTextureHandle == null || skinTraitGetSignatureHandle == null) {
                 return false;
             }
-            String texture = String.valueOf(skinTraitGetTextureMethod.invoke(skinTrait));
-            String signature = String.valueOf(skinTraitGetSignatureMethod.invoke(skinTrait));
+            String texture = String.valueOf((Object) skinTraitGetTextureHandle.invokeExact(skinTrait));
+            String signature = String.valueOf((Object) skinTraitGetSignatureHandle.invokeExact(skinTrait));
             target.setSkinTexture(texture);
             target.setSkinSignature(signature);
             target.setSkinCacheKey("npc-" + npcId);
             target.setSkinName(target.getSkinCacheKey());
             return texture != null && !texture.isBlank() && signature != null && !signature.isBlank();
-        } catch (Exception ex) {
+        } catch (Throwable ex) {
             return false;
         }
     }
@@ -163,12 +209,12 @@ public class CitizensAdapter {
             return;
         }
         try {
-            npcSetProtectedMethod.invoke(npc, true);
-            if (npcSetUseMinecraftAI != null) {
-                npcSetUseMinecraftAI.invoke(npc, false);
+            npcSetProtectedHandle.invokeExact(npc, true);
+            if (npcSetUseMinecraftAIHandle != null) {
+                npcSetUseMinecraftAIHandle.invokeExact(npc, false);
             }
             disableNameplate(npc);
-        } catch (Exception ex) {
+        } catch (Throwable ex) {
             plugin.getLogger().warning("Failed to configure Citizens NPC: " + ex.getMessage());
         }
     }
@@ -178,19 +224,18 @@ public class CitizensAdapter {
             return;
         }
         try {
-            if (npcDataMethod != null && dataSetPersistentMethod != null) {
-                Object data = npcDataMethod.invoke(npc);
-                dataSetPersistentMethod.invoke(data, "nameplate-visible", false);
-                dataSetPersistentMethod.invoke(data, "always-use-name-holograms", false);
+            if (npcDataHandle != null && dataSetBooleanHandle != null) {
+                Object data = (Object) npcDataHandle.invokeExact(npc);
+                dataSetBooleanHandle.invokeExact(data, "nameplate-visible", false);
+                dataSetBooleanHandle.invokeExact(data, "always-use-name-holograms", false);
             }
-            if (hologramTraitSetUseNameMethod != null) {
-                Object hologramTrait = npcGetOrAddTraitMethod.invoke(npc,
-                        resolveClass("net.citizensnpcs.trait.HologramTrait"));
+            if (hologramTraitSetUseNameHandle != null) {
+                Object hologramTrait = (Object) npcGetOrAddTraitHandle.invokeExact(npc, hologramTraitClass);
                 if (hologramTrait != null) {
-                    hologramTraitSetUseNameMethod.invoke(hologramTrait, false);
+                    hologramTraitSetUseNameHandle.invokeExact(hologramTrait, false);
                 }
             }
-        } catch (Exception ignored) {
+        } catch (Throwable ignored) {
             // Optional trait/settings in different Citizens versions.
         }
     }
@@ -200,8 +245,8 @@ public class CitizensAdapter {
             return false;
         }
         try {
-            return (boolean) npcSpawnMethod.invoke(npc, location);
-        } catch (Exception ex) {
+            return (boolean) npcSpawnHandle.invokeExact(npc, location);
+        } catch (Throwable ex) {
             plugin.getLogger().warning("Failed to spawn Citizens NPC: " + ex.getMessage());
             return false;
         }
@@ -212,30 +257,41 @@ public class CitizensAdapter {
             return null;
         }
         try {
-            return (Entity) npcGetEntityMethod.invoke(npc);
-        } catch (Exception ex) {
+            return (Entity) npcGetEntityHandle.invokeExact(npc);
+        } catch (Throwable ex) {
             return null;
         }
     }
 
     public void setMoveDestination(Object npc, Location location) {
-        if (!available || npc == null || location == null || npcSetMoveDestinationMethod == null) {
+        if (!available || npc == null || location == null || npcSetMoveDestinationHandle == null) {
             return;
         }
         try {
-            npcSetMoveDestinationMethod.invoke(npc, location);
-        } catch (Exception ignored) {
+            npcSetMoveDestinationHandle.invokeExact(npc, location);
+        } catch (Throwable ignored) {
             // Optional API on some Citizens builds.
         }
     }
 
+    public void setName(Object npc, String name) {
+        if (!available || npc == null || npcSetNameHandle == null) {
+            return;
+        }
+        try {
+            npcSetNameHandle.invokeExact(npc, name == null ? "" : name);
+        } catch (Throwable ex) {
+            plugin.getLogger().warning("Failed to rename Citizens NPC: " + ex.getMessage());
+        }
+    }
+
     public void destroy(Object npc) {
         if (!available || npc == null) {
             return;
         }
         try {
-            npcDestroyMethod.invoke(npc);
-        } catch (Exception ex) {
+            npcDestroyHandle.invokeExact(npc);
+        } catch (Throwable ex) {
             plugin.getLogger().warning("Failed to destroy Citizens NPC: " + ex.getMessage());
         }
     }
@@ -250,60 +306,87 @@ public class CitizensAdapter {
             Class<?> citizensApi = resolveClass("net.citizensnpcs.api.CitizensAPI");
             Class<?> npcRegistryClass = resolveClass("net.citizensnpcs.api.npc.NPCRegistry");
             Class<?> npcClass = resolveClass("net.citizensnpcs.api.npc.NPC");
-            Class<?> skinTraitClass = resolveClass("net.citizensnpcs.trait.SkinTrait");
+            skinTraitClass = resolveClass("net.citizensnpcs.trait.SkinTrait");
 
             Method getRegistry = citizensApi.getMethod("getNPCRegistry");
             npcRegistry = getRegistry.invoke(null);
-            createNpcMethod = npcRegistryClass.getMethod("createNPC", EntityType.class, String.class);
-            npcRegistryGetByIdMethod = npcRegistryClass.getMethod("getById", int.class);
+            createNpcHandle = bind(npcRegistryClass.getMethod("createNPC", EntityType.class, String.class),
+                    Object.class, Object.class, EntityType.class, String.class);
+            npcRegistryGetByIdHandle = bind(npcRegistryClass.getMethod("getById", int.class),
+                    Object.class, Object.class, int.class);
+            registryDeregisterAllHandle = bind(npcRegistryClass.getMethod("deregisterAll"), void.class, Object.class);
+            try {
+                Class<?> dataStoreClass = resolveClass("net.citizensnpcs.api.npc.NPCDataStore");
+                Object memoryStore = resolveClass("net.citizensnpcs.api.npc.MemoryNPCDataStore")
+                        .getConstructor().newInstance();
+                sceneNpcRegistry = citizensApi.getMethod("createAnonymousNPCRegistry", dataStoreClass)
+                        .invoke(null, memoryStore);
+            } catch (Exception ignored) {
+                sceneNpcRegistry = null;
+            }
+            if (sceneNpcRegistry == null) {
+                sceneNpcRegistry = npcRegistry;
+                plugin.getLogger().info("Citizens anonymous NPC registry not available; scene actors use the saved registry.");
+            }
 
-            npcSpawnMethod = npcClass.getMethod("spawn", Location.class);
-            npcDestroyMethod = npcClass.getMethod("destroy");
-            npcGetEntityMethod = npcClass.getMethod("getEntity");
-            npcGetOrAddTraitMethod = npcClass.getMethod("getOrAddTrait", Class.class);
-            npcGetIdMethod = npcClass.getMethod("getId");
-            npcSetProtectedMethod = npcClass.getMethod("setProtected", boolean.class);
+            npcSpawnHandle = bind(npcClass.getMethod("spawn", Location.class), boolean.class, Object.class, Location.class);
+            npcDestroyHandle = bind(npcClass.getMethod("destroy"), void.class, Object.class);
+            npcSetNameHandle = bind(npcClass.getMethod("setName", String.class), void.class, Object.class, String.class);
+            npcGetEntityHandle = bind(npcClass.getMethod("getEntity"), Entity.class, Object.class);
+            npcGetOrAddTraitHandle = bind(npcClass.getMethod("getOrAddTrait", Class.class),
+                    Object.class, Object.class, Class.class);
+            npcGetIdHandle = bind(npcClass.getMethod("getId"), int.class, Object.class);
+            npcSetProtectedHandle = bind(npcClass.getMethod("setProtected", boolean.class),
+                    void.class, Object.class, boolean.class);
             try {
-                npcSetUseMinecraftAI = npcClass.getMethod("setUseMinecraftAI", boolean.class);
+                npcSetUseMinecraftAIHandle = bind(npcClass.getMethod("setUseMinecraftAI", boolean.class),
+                        void.class, Object.class, boolean.class);
             } catch (NoSuchMethodException ignored) {
-                npcSetUseMinecraftAI = null;
+                npcSetUseMinecraftAIHandle = null;
             }
             try {
-                npcSetMoveDestinationMethod = npcClass.getMethod("setMoveDestination", Location.class);
+                npcSetMoveDestinationHandle = bind(npcClass.getMethod("setMoveDestination", Location.class),
+                        void.class, Object.class, Location.class);
             } catch (NoSuchMethodException ignored) {
-                npcSetMoveDestinationMethod = null;
+                npcSetMoveDestinationHandle = null;
             }
             try {
-                npcDataMethod = npcClass.getMethod("data");
+                npcDataHandle = bind(npcClass.getMethod("data"), Object.class, Object.class);
                 Class<?> dataClass = resolveClass("net.citizensnpcs.api.util.DataKey");
-                dataSetPersistentMethod = dataClass.getMethod("setBoolean", String.class, boolean.class);
+                dataSetBooleanHandle = bind(dataClass.getMethod("setBoolean", String.class, boolean.class),
+                        void.class, Object.class, String.class, boolean.class);
             } catch (Exception ignored) {
-                npcDataMethod = null;
-                dataSetPersistentMethod = null;
+                npcDataHandle = null;
+                dataSetBooleanHandle = null;
             }
             try {
-                Class<?> hologramTraitClass = resolveClass("net.citizensnpcs.trait.HologramTrait");
-                hologramTraitSetUseNameMethod = hologramTraitClass.getMethod("setUseDisplayName", boolean.class);
+                hologramTraitClass = resolveClass("net.citizensnpcs.trait.HologramTrait");
+                hologramTraitSetUseNameHandle = bind(hologramTraitClass.getMethod("setUseDisplayName", boolean.class),
+                        void.class, Object.class, boolean.class);
             } catch (Exception ignored) {
-                hologramTraitSetUseNameMethod = null;
+                hologramTraitSetUseNameHandle = null;
             }
 
             try {
-                Class<?> playerFilterClass = resolveClass("net.citizensnpcs.trait.versioned.PlayerFilter");
-                playerFilterSetMethod = playerFilterClass.getMethod("setPlayerFilter", Predicate.class);
+                playerFilterClass = resolveClass("net.citizensnpcs.trait.versioned.PlayerFilter");
+                playerFilterSetHandle = bind(playerFilterClass.getMethod("setPlayerFilter", Predicate.class),
+                        void.class, Object.class, Predicate.class);
             } catch (Exception ignored) {
-                playerFilterSetMethod = null;
+                playerFilterSetHandle = null;
                 plugin.getLogger().info("Citizens PlayerFilter trait not available; using Bukkit visibility fallback.");
             }
-            skinTraitSetSkinNameMethod = skinTraitClass.getMethod("setSkinName", String.class);
+            skinTraitSetSkinNameHandle = bind(skinTraitClass.getMethod("setSkinName", String.class),
+                    void.class, Object.class, String.class);
             try {
-                skinTraitSetSkinPersistentMethod = skinTraitClass.getMethod("setSkinPersistent", String.class, String.class, String.class);
-                skinTraitGetSignatureMethod = skinTraitClass.getMethod("getSignature");
-                skinTraitGetTextureMethod = skinTraitClass.getMethod("getTexture");
+                skinTraitSetSkinPersistentHandle = bind(skinTraitClass.getMethod("setSkinPersistent",
+                        String.class, String.class, String.class),
+                        void.class, Object.class, String.class, String.class, String.class);
+                skinTraitGetSignatureHandle = bind(skinTraitClass.getMethod("getSignature"), Object.class, Object.class);
+                skinTraitGetTextureHandle = bind(skinTraitClass.getMethod("getTexture"), Object.class, Object.class);
             } catch (Exception ignored) {
-                skinTraitSetSkinPersistentMethod = null;
-                skinTraitGetSignatureMethod = null;
-                skinTraitGetTextureMethod = null;
+                skinTraitSetSkinPersistentHandle = null;
+                skinTraitGetSignatureHandle = null;
+                skinTraitGetTextureHandle = null;
             }
         } catch (Exception ex) {
             available = false;
@@ -311,6 +394,15 @@ public class CitizensAdapter {
         }
     }
 
+    /**
+     * Unreflects the method and adapts it to the call-site type, receiver first for instance methods.
+     */
+    static MethodHandle bind(Method method, Class<?> returnType, Class<?>... parameterTypes)
+            throws IllegalAccessException {
+        return MethodHandles.publicLookup().unreflect(method)
+                .asType(MethodType.methodType(returnType, parameterTypes));
+    }
+
     private Class<?> resolveClass(String name) throws ClassNotFoundException {
         return Class.forName(name);
     }
@@ -1,12 +1,14 @@
 package com.extrascenes;
 
 import com.extrascenes.command.SceneCommandExecutor;
+import com.extrascenes.scene.AmbientSceneRuntime;
 import com.extrascenes.scene.EditorChatListener;
 import com.extrascenes.scene.ActorRecordingService;
 import com.extrascenes.scene.EditorSessionManager;
 import com.extrascenes.scene.SceneEditorEngine;
 import com.extrascenes.scene.SceneEditorListener;
 import com.extrascenes.scene.SceneManager;
+import com.extrascenes.scene.SceneConfigSnapshot;
 import com.extrascenes.scene.SceneRuntimeEngine;
 import com.extrascenes.scene.SkinLibrary;
 import com.extrascenes.scene.SceneSessionManager;
@@ -30,10 +32,13 @@ public class ExtraScenesPlugin extends JavaPlugin {
     private ActorRecordingService actorRecordingService;
     private SkinLibrary skinLibrary;
     private CutscenePathRegistry cutscenePathRegistry;
+    private AmbientSceneRuntime ambientSceneRuntime;
+    private volatile SceneConfigSnapshot sceneConfig;
 
     @Override
     public void onEnable() {
         saveDefaultConfig();
+        this.sceneConfig = SceneConfigSnapshot.load(getConfig(), getLogger());
 
         this.protocolAdapter = new SceneProtocolAdapter(this);
         this.citizensAdapter = new CitizensAdapter(this);
@@ -65,6 +70,10 @@ public class ExtraScenesPlugin extends JavaPlugin {
         }
 
         runtimeEngine.start();
+        sessionManager.getEntityPool().start();
+        this.ambientSceneRuntime = new AmbientSceneRuntime(this);
+        ambientSceneRuntime.reload();
+        ambientSceneRuntime.start();
 
         if (Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI")) {
             new ScenePlaceholderExpansion(this, sessionManager).register();
@@ -76,11 +85,21 @@ public class ExtraScenesPlugin extends JavaPlugin {
         if (actorRecordingService != null) {
             actorRecordingService.stopAll(true);
         }
+        if (ambientSceneRuntime != null) {
+            ambientSceneRuntime.stop();
+        }
         if (runtimeEngine != null) {
             runtimeEngine.stop();
         }
         if (sessionManager != null) {
             sessionManager.stopAll("plugin_disable");
+            sessionManager.getEntityPool().stop();
+        }
+        if (protocolAdapter != null) {
+            protocolAdapter.close();
+        }
+        if (citizensAdapter != null) {
+            citizensAdapter.deregisterSceneNpcs();
         }
         if (sceneManager != null) {
             sceneManager.saveAllDirty();
@@ -135,4 +154,34 @@ public class ExtraScenesPlugin extends JavaPlugin {
     public CutscenePathRegistry getCutscenePathRegistry() {
         return cutscenePathRegistry;
     }
+
+    public AmbientSceneRuntime getAmbientSceneRuntime() {
+        return ambientSceneRuntime;
+    }
+
+    public SceneConfigSnapshot getSceneConfig() {
+        return sceneConfig;
+    }
+
+    /**
+     * Re-reads config.yml, paths.yml and the scene files, swaps in the new snapshots and restarts ambient scenes
+     * on the reloaded scenes. Running sessions keep the values they already captured; anything read per tick picks
+     * up the new snapshot on its next read.
+     */
+    public void reloadSceneConfig() {
+        reloadConfig();
+        this.sceneConfig = SceneConfigSnapshot.load(getConfig(), getLogger());
+        if (cutscenePathRegistry != null) {
+            cutscenePathRegistry.reload();
+        }
+        if (sessionManager != null) {
+            sessionManager.getCameraTimelineCache().invalidateAll();
+        }
+        if (sceneManager != null) {
+            sceneManager.reloadAll();
+        }
+        if (ambientSceneRuntime != null) {
+            ambientSceneRuntime.reload();
+        }
+    }
 }
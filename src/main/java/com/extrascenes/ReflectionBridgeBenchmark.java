@@ -0,0 +1,50 @@
+package com.extrascenes;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import org.bukkit.Location;
+
+/**
+ * Times the two ways the soft-dependency adapters can call into another plugin: {@link Method#invoke} and an
+ * exact-typed {@link MethodHandle} as bound by {@link CitizensAdapter}. The target is {@link Location#setX} on a
+ * throwaway location so the numbers measure the bridge, not the callee.
+ */
+public final class ReflectionBridgeBenchmark {
+    private static final int WARMUP_ITERATIONS = 20_000;
+
+    private ReflectionBridgeBenchmark() {
+    }
+
+    public static Result run(int iterations) throws Throwable {
+        int count = Math.max(1, iterations);
+        Method method = Location.class.getMethod("setX", double.class);
+        MethodHandle handle = CitizensAdapter.bind(method, void.class, Object.class, double.class);
+        Object target = new Location(null, 0.0D, 0.0D, 0.0D);
+
+        runReflection(method, target, WARMUP_ITERATIONS);
+        runHandle(handle, target, WARMUP_ITERATIONS);
+
+        long reflectionNanos = runReflection(method, target, count);
+        long handleNanos = runHandle(handle, target, count);
+        return new Result(count, reflectionNanos / (double) count, handleNanos / (double) count);
+    }
+
+    private static long runReflection(Method method, Object target, int iterations) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            method.invoke(target, (double) i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long runHandle(MethodHandle handle, Object target, int iterations) throws Throwable {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            handle.invokeExact(target, (double) i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    public record Result(int iterations, double reflectionNanosPerCall, double handleNanosPerCall) {
+    }
+}
@@ -52,7 +52,7 @@ public class SceneListener implements Listener {
 
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        visibilityController.hideAllSceneEntities(event.getPlayer());
+        visibilityController.handleJoin(event.getPlayer());
         sessionManager.restoreIfPending(event.getPlayer());
     }
 
@@ -62,6 +62,7 @@ public class SceneListener implements Listener {
         editorEngine.getPlugin().getRuntimeEngine().previewCleanup(event.getPlayer(), "player_quit");
         sessionManager.markRestorePending(event.getPlayer().getUniqueId());
         sessionManager.abortSession(event.getPlayer().getUniqueId(), "player_quit");
+        visibilityController.handleQuit(event.getPlayer());
         if (editorSessionManager != null) {
             EditorSession editorSession = editorSessionManager.getSession(event.getPlayer().getUniqueId());
             if (editorSession != null && editorEngine.hasArmedPlacement(editorSession)) {
@@ -80,6 +81,7 @@ public class SceneListener implements Listener {
         editorEngine.getPlugin().getRuntimeEngine().previewCleanup(event.getPlayer(), "player_kick");
         sessionManager.markRestorePending(event.getPlayer().getUniqueId());
         sessionManager.abortSession(event.getPlayer().getUniqueId(), "player_kick");
+        visibilityController.handleQuit(event.getPlayer());
         if (editorSessionManager != null) {
             EditorSession editorSession = editorSessionManager.getSession(event.getPlayer().getUniqueId());
             if (editorSession != null && editorEngine.hasArmedPlacement(editorSession)) {
@@ -96,7 +98,7 @@ public class SceneListener implements Listener {
     public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
         editorEngine.getPlugin().getRuntimeEngine().previewCleanup(event.getPlayer(), "world_change");
         actorRecordingService.stopRecording(event.getPlayer(), true);
-        visibilityController.hideAllSceneEntities(event.getPlayer());
+        visibilityController.handleWorldChange(event.getPlayer());
         SceneSession session = sessionManager.getSession(event.getPlayer().getUniqueId());
         if (session != null) {
             sessionManager.stopScene(event.getPlayer(), "world_change");
@@ -107,8 +109,7 @@ public class SceneListener implements Listener {
 
     @EventHandler
     public void onPlayerTeleport(PlayerTeleportEvent event) {
-        visibilityController.hideAllSceneEntities(event.getPlayer());
-        sessionManager.reapplyVisibility(event.getPlayer());
+        visibilityController.reconcile(event.getPlayer(), event.getTo());
     }
 
     @EventHandler
@@ -159,11 +160,7 @@ public class SceneListener implements Listener {
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        SceneSession session = sessionManager.getSession(event.getPlayer().getUniqueId());
-        if (session == null || session.getState() != SceneState.PLAYING) {
-            return;
-        }
-        if (!editorEngine.getPlugin().getConfig().getBoolean("locks.movement", true)) {
+        if (!sessionManager.hasEventMoveLocks() || !sessionManager.isEventMoveLocked(event.getPlayer().getUniqueId())) {
             return;
         }
         if (event.getPlayer().getGameMode() == org.bukkit.GameMode.SPECTATOR) {
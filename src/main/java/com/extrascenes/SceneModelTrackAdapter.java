@@ -1,7 +1,7 @@
 package com.extrascenes;
 
 import com.extrascenes.visibility.SceneVisibilityController;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -19,17 +19,17 @@ public class SceneModelTrackAdapter {
     private final ExtraScenesPlugin plugin;
     private final SceneVisibilityController visibilityController;
     private boolean modelEngineAvailable;
-    private Method createActiveModelMethod;
-    private Method getOrCreateModeledEntityMethod;
-    private Method getModeledEntityMethod;
-    private Method modeledEntityAddModelMethod;
-    private Method modeledEntityRegisterMethod;
-    private Method modeledEntityGetModelMethod;
-    private Method modeledEntityGetModelsMethod;
-    private Method activeModelGetAnimationHandlerMethod;
-    private Method animationHandlerPlayMethod;
-    private Method animationHandlerStopMethod;
-    private Method animationHandlerStopAllMethod;
+    private MethodHandle createActiveModelHandle;
+    private MethodHandle getOrCreateModeledEntityHandle;
+    private MethodHandle getModeledEntityHandle;
+    private MethodHandle modeledEntityAddModelHandle;
+    private MethodHandle modeledEntityRegisterHandle;
+    private MethodHandle modeledEntityGetModelHandle;
+    private MethodHandle modeledEntityGetModelsHandle;
+    private MethodHandle activeModelGetAnimationHandlerHandle;
+    private MethodHandle animationHandlerPlayHandle;
+    private MethodHandle animationHandlerStopHandle;
+    private MethodHandle animationHandlerStopAllHandle;
     private final Map<UUID, Set<UUID>> ownedModelBases = new java.util.concurrent.ConcurrentHashMap<>();
 
     public SceneModelTrackAdapter(ExtraScenesPlugin plugin, SceneVisibilityController visibilityController) {
@@ -91,8 +91,7 @@ public class SceneModelTrackAdapter {
             base.setSmall(true);
             base.setCanMove(false);
         }
-        visibilityController.hideEntityFromAllExcept(entity, owner);
-        visibilityController.showEntityToPlayer(entity, owner);
+        visibilityController.restrictTo(entity, owner);
     }
 
     private void trackBase(Player owner, Entity base) {
@@ -142,11 +141,11 @@ public class SceneModelTrackAdapter {
             return;
         }
         try {
-            Object modeledEntity = getOrCreateModeledEntityMethod.invoke(null, baseEntity);
-            Object activeModel = createActiveModelMethod.invoke(null, modelId);
-            modeledEntityAddModelMethod.invoke(modeledEntity, activeModel, true);
-            modeledEntityRegisterMethod.invoke(modeledEntity);
-        } catch (Exception ex) {
+            Object modeledEntity = (Object) getOrCreateModeledEntityHandle.invokeExact(baseEntity);
+            Object activeModel = (Object) createActiveModelHandle.invokeExact(modelId);
+            modeledEntityAddModelHandle.invokeExact(modeledEntity, activeModel, true);
+            modeledEntityRegisterHandle.invokeExact(modeledEntity);
+        } catch (Throwable ex) {
             modelEngineAvailable = false;
         }
     }
@@ -159,14 +158,14 @@ public class SceneModelTrackAdapter {
             return;
         }
         try {
-            Object modeledEntity = getModeledEntityMethod.invoke(null, baseEntity);
+            Object modeledEntity = (Object) getModeledEntityHandle.invokeExact(baseEntity);
             Object activeModel = resolveActiveModel(modeledEntity, modelId);
             if (activeModel == null) {
                 return;
             }
-            Object handler = activeModelGetAnimationHandlerMethod.invoke(activeModel);
-            animationHandlerPlayMethod.invoke(handler, animationId, 0.0, 0.0, speed, loop);
-        } catch (Exception ex) {
+            Object handler = (Object) activeModelGetAnimationHandlerHandle.invokeExact(activeModel);
+            animationHandlerPlayHandle.invokeExact(handler, animationId, 0.0, 0.0, speed, loop);
+        } catch (Throwable ex) {
             modelEngineAvailable = false;
         }
     }
@@ -176,33 +175,33 @@ public class SceneModelTrackAdapter {
             return;
         }
         try {
-            Object modeledEntity = getModeledEntityMethod.invoke(null, baseEntity);
+            Object modeledEntity = (Object) getModeledEntityHandle.invokeExact(baseEntity);
             Object activeModel = resolveActiveModel(modeledEntity, modelId);
             if (activeModel == null) {
                 return;
             }
-            Object handler = activeModelGetAnimationHandlerMethod.invoke(activeModel);
+            Object handler = (Object) activeModelGetAnimationHandlerHandle.invokeExact(activeModel);
             if (animationId == null || animationId.isBlank()) {
-                animationHandlerStopAllMethod.invoke(handler);
+                animationHandlerStopAllHandle.invokeExact(handler);
             } else {
-                animationHandlerStopMethod.invoke(handler, animationId);
+                animationHandlerStopHandle.invokeExact(handler, animationId);
             }
-        } catch (Exception ex) {
+        } catch (Throwable ex) {
             modelEngineAvailable = false;
         }
     }
 
-    private Object resolveActiveModel(Object modeledEntity, String modelId) throws Exception {
+    private Object resolveActiveModel(Object modeledEntity, String modelId) throws Throwable {
         if (modeledEntity == null) {
             return null;
         }
         if (modelId != null) {
-            Object optional = modeledEntityGetModelMethod.invoke(modeledEntity, modelId);
+            Object optional = (Object) modeledEntityGetModelHandle.invokeExact(modeledEntity, modelId);
             if (optional instanceof Optional<?> opt && opt.isPresent()) {
                 return opt.orElse(null);
             }
         }
-        Object models = modeledEntityGetModelsMethod.invoke(modeledEntity);
+        Object models = (Object) modeledEntityGetModelsHandle.invokeExact(modeledEntity);
         if (models instanceof Map<?, ?> map && !map.isEmpty()) {
             return map.values().iterator().next();
         }
@@ -212,25 +211,35 @@ public class SceneModelTrackAdapter {
     private void initializeReflection() {
         try {
             Class<?> api = Class.forName("com.ticxo.modelengine.api.ModelEngineAPI");
-            createActiveModelMethod = api.getMethod("createActiveModel", String.class);
-            getOrCreateModeledEntityMethod = api.getMethod("getOrCreateModeledEntity", Entity.class);
-            getModeledEntityMethod = api.getMethod("getModeledEntity", Entity.class);
+            createActiveModelHandle = CitizensAdapter.bind(api.getMethod("createActiveModel", String.class),
+                    Object.class, String.class);
+            getOrCreateModeledEntityHandle = CitizensAdapter.bind(api.getMethod("getOrCreateModeledEntity", Entity.class),
+                    Object.class, Entity.class);
+            getModeledEntityHandle = CitizensAdapter.bind(api.getMethod("getModeledEntity", Entity.class),
+                    Object.class, Entity.class);
 
             Class<?> modeledEntityClass = Class.forName("com.ticxo.modelengine.api.model.ModeledEntity");
-            modeledEntityAddModelMethod = modeledEntityClass.getMethod("addModel",
-                    Class.forName("com.ticxo.modelengine.api.model.ActiveModel"), boolean.class);
-            modeledEntityRegisterMethod = modeledEntityClass.getMethod("registerSelf");
-            modeledEntityGetModelMethod = modeledEntityClass.getMethod("getModel", String.class);
-            modeledEntityGetModelsMethod = modeledEntityClass.getMethod("getModels");
-
             Class<?> activeModelClass = Class.forName("com.ticxo.modelengine.api.model.ActiveModel");
-            activeModelGetAnimationHandlerMethod = activeModelClass.getMethod("getAnimationHandler");
+            modeledEntityAddModelHandle = CitizensAdapter.bind(modeledEntityClass.getMethod("addModel",
+                    activeModelClass, boolean.class), void.class, Object.class, Object.class, boolean.class);
+            modeledEntityRegisterHandle = CitizensAdapter.bind(modeledEntityClass.getMethod("registerSelf"),
+                    void.class, Object.class);
+            modeledEntityGetModelHandle = CitizensAdapter.bind(modeledEntityClass.getMethod("getModel", String.class),
+                    Object.class, Object.class, String.class);
+            modeledEntityGetModelsHandle = CitizensAdapter.bind(modeledEntityClass.getMethod("getModels"),
+                    Object.class, Object.class);
+
+            activeModelGetAnimationHandlerHandle = CitizensAdapter.bind(activeModelClass.getMethod("getAnimationHandler"),
+                    Object.class, Object.class);
 
             Class<?> animationHandlerClass = Class.forName("com.ticxo.modelengine.api.animation.handler.AnimationHandler");
-            animationHandlerPlayMethod = animationHandlerClass.getMethod("playAnimation",
-                    String.class, double.class, double.class, double.class, boolean.class);
-            animationHandlerStopMethod = animationHandlerClass.getMethod("stopAnimation", String.class);
-            animationHandlerStopAllMethod = animationHandlerClass.getMethod("forceStopAllAnimations");
+            animationHandlerPlayHandle = CitizensAdapter.bind(animationHandlerClass.getMethod("playAnimation",
+                    String.class, double.class, double.class, double.class, boolean.class),
+                    void.class, Object.class, String.class, double.class, double.class, double.class, boolean.class);
+            animationHandlerStopHandle = CitizensAdapter.bind(animationHandlerClass.getMethod("stopAnimation", String.class),
+                    void.class, Object.class, String.class);
+            animationHandlerStopAllHandle = CitizensAdapter.bind(animationHandlerClass.getMethod("forceStopAllAnimations"),
+                    void.class, Object.class);
         } catch (Exception ex) {
             modelEngineAvailable = false;
         }
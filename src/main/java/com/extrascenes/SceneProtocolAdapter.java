@@ -1,6 +1,13 @@
 package com.extrascenes;
 
+import com.extrascenes.protocol.ProtocolLibViewerInputFilter;
+import com.extrascenes.protocol.ProtocolLibViewerPacketFilter;
+import com.extrascenes.protocol.ProtocolLibVirtualEntityPackets;
+import com.extrascenes.protocol.ViewerInputFilter;
+import com.extrascenes.protocol.ViewerPacketFilter;
+import com.extrascenes.protocol.VirtualEntityPackets;
 import org.bukkit.GameMode;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.attribute.Attribute;
@@ -19,23 +26,127 @@ public class SceneProtocolAdapter {
     private final ExtraScenesPlugin plugin;
     private final boolean protocolLibAvailable;
     private final NamespacedKey cutsceneSpeedLockKey;
+    private final VirtualEntityPackets virtualEntityPackets;
+    private ViewerPacketFilter viewerPacketFilter;
+    private boolean viewerPacketFilterFailed;
+    private ViewerInputFilter viewerInputFilter;
+    private boolean viewerInputFilterFailed;
 
     public SceneProtocolAdapter(ExtraScenesPlugin plugin) {
         this.plugin = plugin;
         this.protocolLibAvailable = plugin.getServer().getPluginManager().isPluginEnabled("ProtocolLib");
         this.cutsceneSpeedLockKey = new NamespacedKey(plugin, "cutscene_speed_lock");
+        this.virtualEntityPackets = protocolLibAvailable ? createVirtualEntityPackets() : null;
     }
 
     public boolean isProtocolLibAvailable() {
         return protocolLibAvailable;
     }
 
+    /**
+     * @return packet sender for client-side entities, or null when ProtocolLib is not available
+     */
+    public VirtualEntityPackets getVirtualEntityPackets() {
+        return virtualEntityPackets;
+    }
+
+    /**
+     * @return relative moves a virtual entity sends between absolute resyncs, 0 to resync only past the delta limit
+     */
+    public int getPacketResyncInterval() {
+        return plugin.getSceneConfig().getPacketResyncInterval();
+    }
+
+    /**
+     * @return the outbound filter for cinematic viewers, created on first use, or null when ProtocolLib is missing
+     * or {@code packets.isolate-viewers} is off
+     */
+    public ViewerPacketFilter ensureViewerPacketFilter() {
+        if (viewerPacketFilter != null || viewerPacketFilterFailed || !protocolLibAvailable
+                || !plugin.getSceneConfig().isIsolateViewers()) {
+            return viewerPacketFilter;
+        }
+        try {
+            viewerPacketFilter = new ProtocolLibViewerPacketFilter(plugin);
+        } catch (Throwable throwable) {
+            viewerPacketFilterFailed = true;
+            plugin.getLogger().warning("[protocol] viewer packet filter failed to initialize: " + throwable.getMessage());
+        }
+        return viewerPacketFilter;
+    }
+
+    /**
+     * @return the outbound filter if it was created, regardless of the current config
+     */
+    public ViewerPacketFilter getViewerPacketFilter() {
+        return viewerPacketFilter;
+    }
+
+    /**
+     * @return the inbound movement filter, created on first use, or null when ProtocolLib is missing
+     */
+    public ViewerInputFilter ensureViewerInputFilter() {
+        if (viewerInputFilter != null || viewerInputFilterFailed || !protocolLibAvailable) {
+            return viewerInputFilter;
+        }
+        try {
+            viewerInputFilter = new ProtocolLibViewerInputFilter(plugin);
+        } catch (Throwable throwable) {
+            viewerInputFilterFailed = true;
+            plugin.getLogger().warning("[protocol] viewer input filter failed to initialize, using move events: "
+                    + throwable.getMessage());
+        }
+        return viewerInputFilter;
+    }
+
+    public ViewerInputFilter getViewerInputFilter() {
+        return viewerInputFilter;
+    }
+
+    /**
+     * Lets a scene sound through the viewer's packet filter.
+     */
+    public void expectSceneSound(Player player, Location location) {
+        if (viewerPacketFilter != null) {
+            viewerPacketFilter.expectSound(player, location);
+        }
+    }
+
+    /**
+     * Lets sounds from commands dispatched for the viewer this tick through its packet filter.
+     */
+    public void passSceneSounds(Player player) {
+        if (viewerPacketFilter != null) {
+            viewerPacketFilter.passSounds(player);
+        }
+    }
+
+    public void close() {
+        if (viewerPacketFilter != null) {
+            viewerPacketFilter.close();
+            viewerPacketFilter = null;
+        }
+        if (viewerInputFilter != null) {
+            viewerInputFilter.close();
+            viewerInputFilter = null;
+        }
+    }
+
     public void sendCameraPacket(Player player, Entity cameraEntity) {
-        if (!protocolLibAvailable) {
+        if (virtualEntityPackets == null || player == null || cameraEntity == null) {
             return;
         }
-        // Placeholder for ProtocolLib-based camera packet targeting.
-        // Intentionally no-op unless ProtocolLib is present.
+        virtualEntityPackets.setCamera(player, cameraEntity.getEntityId());
+    }
+
+    private VirtualEntityPackets createVirtualEntityPackets() {
+        try {
+            return new ProtocolLibVirtualEntityPackets(plugin);
+        } catch (Throwable throwable) {
+            plugin.getLogger().warning("[protocol] ProtocolLib present but packet backend failed to initialize: "
+                    + throwable.getMessage());
+            return null;
+        }
     }
 
     public void applySpectatorCamera(Player player, Entity cameraEntity) {
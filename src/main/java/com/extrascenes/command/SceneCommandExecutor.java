@@ -4,6 +4,8 @@ import com.extrascenes.Text;
 
 import com.extrascenes.ExtraScenesPlugin;
 import com.extrascenes.scene.ActorRecordingService;
+import com.extrascenes.scene.AmbientScene;
+import com.extrascenes.scene.AmbientSceneRuntime;
 import com.extrascenes.scene.EditorSession;
 import com.extrascenes.scene.Scene;
 import com.extrascenes.scene.SceneEditorEngine;
@@ -20,6 +22,7 @@ import com.extrascenes.scene.SmoothingMode;
 import com.extrascenes.scene.SceneSelfTestRunner;
 import com.extrascenes.scene.SceneSessionManager;
 import com.extrascenes.scene.SceneActorTemplate;
+import com.extrascenes.scene.SharedSceneInstance;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -34,10 +37,11 @@ import org.bukkit.entity.Player;
 
 public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
     private static final String ACTOR_ID_PATTERN = "[a-zA-Z0-9_-]{3,32}";
+    private static final int MAX_BRIDGE_ITERATIONS = 5_000_000;
     private static final List<String> SUBCOMMANDS = List.of(
-            "main", "edit", "play", "stop", "pause", "resume", "reload", "list",
+            "main", "edit", "play", "party", "ambient", "stop", "pause", "resume", "reload", "list",
             "create", "delete", "rename", "duplicate", "group", "tick", "cancel", "here", "setend",
-            "debugcamera", "debugpreview", "debugactors", "debugvisibility", "actor", "selftest", "route", "cutscene"
+            "debugcamera", "debugpreview", "debugactors", "debugvisibility", "perf", "actor", "selftest", "route", "cutscene"
     );
 
     private final ExtraScenesPlugin plugin;
@@ -80,6 +84,8 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
             case "here" -> handleHere(sender);
             case "setend" -> handleSetEnd(sender, args);
             case "play" -> handlePlay(sender, args);
+            case "party" -> handleParty(sender, args);
+            case "ambient" -> handleAmbient(sender, args);
             case "stop" -> handleStop(sender, args);
             case "pause" -> handlePause(sender, args);
             case "resume" -> handleResume(sender, args);
@@ -92,6 +98,7 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
             case "debugpreview" -> handleDebugPreview(sender, args);
             case "debugactors" -> handleDebugActors(sender, args);
             case "debugvisibility" -> handleDebugVisibility(sender, args);
+            case "perf" -> handlePerf(sender, args);
             case "actor" -> handleActor(sender, args);
             case "selftest" -> handleSelfTest(sender, args);
             case "route" -> handleRoute(sender, args);
@@ -105,6 +112,13 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
         Text.send(sender, "&b" + "/scene main");
         Text.send(sender, "&b" + "/scene edit <name>");
         Text.send(sender, "&b" + "/scene play <name> [player] [startTick] [endTick]");
+        Text.send(sender, "&b" + "/scene party start <name> <player...>");
+        Text.send(sender, "&b" + "/scene party join <member> [player]");
+        Text.send(sender, "&b" + "/scene party leave [player]");
+        Text.send(sender, "&b" + "/scene party list");
+        Text.send(sender, "&b" + "/scene ambient add <id> <name> [radius]");
+        Text.send(sender, "&b" + "/scene ambient remove <id>");
+        Text.send(sender, "&b" + "/scene ambient list");
         Text.send(sender, "&b" + "/scene stop [player]");
         Text.send(sender, "&b" + "/scene pause [player]");
         Text.send(sender, "&b" + "/scene resume [player]");
@@ -123,11 +137,13 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
         Text.send(sender, "&b" + "/scene debugpreview <on|off>");
         Text.send(sender, "&b" + "/scene debugactors <on|off>");
         Text.send(sender, "&b" + "/scene debugvisibility <actorId>");
+        Text.send(sender, "&b" + "/scene perf [reset|bridge [iterations]]");
         Text.send(sender, "&b" + "/scene actor add <scene> <actorId>");
         Text.send(sender, "&b" + "/scene actor rename <scene> <oldId> <newId>");
         Text.send(sender, "&b" + "/scene actor delete <scene> <actorId> confirm");
         Text.send(sender, "&b" + "/scene actor skin <scene> <actorId> <skin>");
         Text.send(sender, "&b" + "/scene actor playback <scene> <actorId> <exact|walk>");
+        Text.send(sender, "&b" + "/scene actor backend <scene> <actorId> <default|citizens|packet>");
         Text.send(sender, "&b" + "/scene actor scale <scene> <actorId> <value|snap>");
         Text.send(sender, "&b" + "/scene actor record start <scene> <actorId> [tick|start:20] [duration:10s|200t] [preview:on|off]");
         Text.send(sender, "&b" + "/scene actor record stop");
@@ -357,6 +373,165 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
         Text.send(sender, "&a" + "Scene playing for " + target.getName());
     }
 
+    private void handleParty(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("scenes.play")) {
+            Text.send(sender, "&c" + "You lack permission to play scenes.");
+            return;
+        }
+        if (args.length < 2) {
+            Text.send(sender, "&c" + "Usage: /scene party <start|join|leave|list> ...");
+            return;
+        }
+        String mode = args[1].toLowerCase(Locale.ROOT);
+        switch (mode) {
+            case "start" -> {
+                if (args.length < 4) {
+                    Text.send(sender, "&c" + "Usage: /scene party start <name> <player...>");
+                    return;
+                }
+                Scene scene = sceneManager.loadScene(args[2].toLowerCase(Locale.ROOT));
+                if (scene == null) {
+                    Text.send(sender, "&c" + "Scene not found.");
+                    return;
+                }
+                java.util.LinkedHashSet<Player> viewers = new java.util.LinkedHashSet<>();
+                for (int i = 3; i < args.length; i++) {
+                    Player viewer = Bukkit.getPlayer(args[i]);
+                    if (viewer == null) {
+                        Text.send(sender, "&e" + "Player not found: " + args[i]);
+                        continue;
+                    }
+                    viewers.add(viewer);
+                }
+                SharedSceneInstance instance = sessionManager.startSharedScene(scene, viewers);
+                if (instance == null) {
+                    Text.send(sender, "&c" + "Shared scene could not be started. Check console logs for details.");
+                    return;
+                }
+                Text.send(sender, "&a" + "Shared scene playing for " + instance.getViewerIds().size() + " viewer(s).");
+            }
+            case "join" -> {
+                if (args.length < 3) {
+                    Text.send(sender, "&c" + "Usage: /scene party join <member> [player]");
+                    return;
+                }
+                Player member = Bukkit.getPlayer(args[2]);
+                SharedSceneInstance instance = member == null ? null : sessionManager.getSharedInstance(member.getUniqueId());
+                if (instance == null) {
+                    Text.send(sender, "&c" + "That player is not watching a shared scene.");
+                    return;
+                }
+                Player target = args.length >= 4 ? Bukkit.getPlayer(args[3])
+                        : sender instanceof Player player ? player : null;
+                if (target == null) {
+                    Text.send(sender, "&c" + "Player not found.");
+                    return;
+                }
+                if (sessionManager.joinSharedScene(target, instance) == null) {
+                    Text.send(sender, "&c" + "Could not join the shared scene. Check console logs for details.");
+                    return;
+                }
+                Text.send(sender, "&a" + target.getName() + " joined the shared scene at tick " + instance.getTimeTicks() + ".");
+            }
+            case "leave" -> {
+                Player target = args.length >= 3 ? Bukkit.getPlayer(args[2])
+                        : sender instanceof Player player ? player : null;
+                if (target == null) {
+                    Text.send(sender, "&c" + "Player not found.");
+                    return;
+                }
+                if (sessionManager.getSharedInstance(target.getUniqueId()) == null) {
+                    Text.send(sender, "&c" + "That player is not watching a shared scene.");
+                    return;
+                }
+                sessionManager.stopScene(target, "party_leave");
+                Text.send(sender, "&a" + target.getName() + " left the shared scene.");
+            }
+            case "list" -> {
+                if (sessionManager.getSharedInstances().isEmpty()) {
+                    Text.send(sender, "&e" + "No shared scenes running.");
+                    return;
+                }
+                for (SharedSceneInstance instance : sessionManager.getSharedInstances()) {
+                    String names = instance.getViewerIds().stream()
+                            .map(Bukkit::getPlayer)
+                            .filter(java.util.Objects::nonNull)
+                            .map(Player::getName)
+                            .collect(Collectors.joining(", "));
+                    Text.send(sender, "&b" + instance.getScene().getName() + " &7tick " + instance.getTimeTicks()
+                            + " &f" + names);
+                }
+            }
+            default -> Text.send(sender, "&c" + "Usage: /scene party <start|join|leave|list> ...");
+        }
+    }
+
+    private void handleAmbient(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("scenes.edit")) {
+            Text.send(sender, "&c" + "You lack permission to edit scenes.");
+            return;
+        }
+        if (args.length < 2) {
+            Text.send(sender, "&c" + "Usage: /scene ambient <add|remove|list> ...");
+            return;
+        }
+        AmbientSceneRuntime ambientRuntime = plugin.getAmbientSceneRuntime();
+        String mode = args[1].toLowerCase(Locale.ROOT);
+        switch (mode) {
+            case "add" -> {
+                if (!(sender instanceof Player player)) {
+                    Text.send(sender, "&c" + "Only players can anchor ambient scenes.");
+                    return;
+                }
+                if (args.length < 4) {
+                    Text.send(sender, "&c" + "Usage: /scene ambient add <id> <name> [radius]");
+                    return;
+                }
+                double radius = 32.0D;
+                if (args.length >= 5) {
+                    try {
+                        radius = Double.parseDouble(args[4]);
+                    } catch (NumberFormatException ex) {
+                        Text.send(sender, "&c" + "Invalid radius.");
+                        return;
+                    }
+                }
+                AmbientScene ambient = ambientRuntime.add(args[2], args[3], player.getLocation(), radius);
+                if (ambient == null) {
+                    Text.send(sender, "&c" + "Scene not found.");
+                    return;
+                }
+                Text.send(sender, "&a" + "Ambient scene " + ambient.getId() + " anchored here (radius " + radius + ").");
+            }
+            case "remove" -> {
+                if (args.length < 3) {
+                    Text.send(sender, "&c" + "Usage: /scene ambient remove <id>");
+                    return;
+                }
+                if (!ambientRuntime.remove(args[2])) {
+                    Text.send(sender, "&c" + "Ambient scene not found.");
+                    return;
+                }
+                Text.send(sender, "&a" + "Ambient scene removed.");
+            }
+            case "list" -> {
+                if (ambientRuntime.getAmbientScenes().isEmpty()) {
+                    Text.send(sender, "&e" + "No ambient scenes.");
+                    return;
+                }
+                for (AmbientScene ambient : ambientRuntime.getAmbientScenes()) {
+                    Text.send(sender, "&b" + ambient.getId() + " &f" + ambient.getSceneName()
+                            + " &7" + ambient.getAnchor().getWorldName()
+                            + " " + Math.round(ambient.getAnchor().getX())
+                            + " " + Math.round(ambient.getAnchor().getY())
+                            + " " + Math.round(ambient.getAnchor().getZ())
+                            + " r=" + ambient.getRadius()
+                            + " observers=" + ambient.getObserverIds().size());
+                }
+            }
+            default -> Text.send(sender, "&c" + "Usage: /scene ambient <add|remove|list> ...");
+        }
+    }
 
     private void handleRoute(CommandSender sender, String[] args) {
         if (!(sender instanceof Player player)) {
@@ -461,7 +636,7 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
         }
         SceneSession session = sessionManager.getSession(target.getUniqueId());
         if (session != null) {
-            session.setState(com.extrascenes.scene.SceneState.PAUSED);
+            sessionManager.setPaused(session, true);
             Text.send(sender, "&e" + "Scene paused for " + target.getName());
         }
     }
@@ -474,14 +649,13 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
         }
         SceneSession session = sessionManager.getSession(target.getUniqueId());
         if (session != null) {
-            session.setState(com.extrascenes.scene.SceneState.PLAYING);
+            sessionManager.setPaused(session, false);
             Text.send(sender, "&e" + "Scene resumed for " + target.getName());
         }
     }
 
     private void handleReload(CommandSender sender) {
-        plugin.reloadConfig();
-        sceneManager.reloadAll();
+        plugin.reloadSceneConfig();
         Text.send(sender, "&a" + "Scenes reloaded.");
     }
 
@@ -593,12 +767,134 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
         StringBuilder lines = new StringBuilder();
         for (Player online : Bukkit.getOnlinePlayers()) {
             String state = shown.contains(online.getUniqueId()) ? "shown"
-                    : hidden.contains(online.getUniqueId()) ? "hidden" : "unknown";
+                    : hidden.contains(online.getUniqueId()) || plugin.getVisibilityController().isScoped(entityId)
+                    ? "hidden" : "unknown";
             lines.append(online.getName()).append("(").append(online.getUniqueId()).append(")=").append(state).append(" ");
         }
         Text.send(sender, "&eplayers: &f" + lines.toString().trim());
     }
 
+    private void handlePerf(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("scenes.admin")) {
+            Text.send(sender, "&c" + "You lack permission to view playback statistics.");
+            return;
+        }
+        com.extrascenes.scene.ScenePlaybackDriver driver = plugin.getRuntimeEngine().getPlaybackDriver();
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            driver.resetTimings();
+            sessionManager.getCameraTimelineCache().resetStats();
+            Text.send(sender, "&e" + "Playback statistics reset.");
+            return;
+        }
+        if (args.length >= 2 && args[1].equalsIgnoreCase("bridge")) {
+            int iterations = 1_000_000;
+            if (args.length >= 3) {
+                try {
+                    iterations = Integer.parseInt(args[2]);
+                } catch (NumberFormatException ex) {
+                    Text.send(sender, "&c" + "Invalid iteration count; using 1000000.");
+                }
+            }
+            if (iterations > MAX_BRIDGE_ITERATIONS) {
+                iterations = MAX_BRIDGE_ITERATIONS;
+                Text.send(sender, "&e" + "Iteration count capped at " + MAX_BRIDGE_ITERATIONS + ".");
+            }
+            try {
+                com.extrascenes.ReflectionBridgeBenchmark.Result result = com.extrascenes.ReflectionBridgeBenchmark.run(iterations);
+                Text.send(sender, "&bReflection bridge: &fMethod.invoke="
+                        + String.format(Locale.ROOT, "%.1fns", result.reflectionNanosPerCall())
+                        + " MethodHandle=" + String.format(Locale.ROOT, "%.1fns", result.handleNanosPerCall())
+                        + " &7per call over " + result.iterations() + " calls");
+            } catch (Throwable ex) {
+                Text.send(sender, "&cBridge benchmark failed: " + ex.getMessage());
+            }
+            return;
+        }
+        Text.send(sender, "&bPlayback driver: &f" + driver.getSessionCount() + " sessions"
+                + " &7(ticked=" + driver.getLastTickedSessions()
+                + " skipped=" + driver.getLastSkippedSessions() + ")");
+        Text.send(sender, "&bPass time: &flast=" + formatMillis(driver.getLastPassNanos())
+                + " avg=" + formatMillis(driver.getAveragePassNanos())
+                + " max=" + formatMillis(driver.getMaxPassNanos())
+                + " &7over " + driver.getPassCount() + " passes");
+        Text.send(sender, "&bActor state writes: &fapplied=" + plugin.getRuntimeEngine().getActorWritesApplied()
+                + " suppressed=" + plugin.getRuntimeEngine().getActorWritesSuppressed()
+                + " &7(active sessions)");
+        Text.send(sender, "&bCamera rig poses sent: &f" + plugin.getRuntimeEngine().getCameraRigPosesSent()
+                + " &7(active sessions)");
+        Text.send(sender, "&bPacket moves: &fsent=" + plugin.getRuntimeEngine().getPacketMoveBytesSent() + "B"
+                + " saved=" + plugin.getRuntimeEngine().getPacketMoveBytesSaved() + "B"
+                + " &7(vs absolute moves, active sessions)");
+        com.extrascenes.protocol.VirtualEntityPackets packets = plugin.getProtocolAdapter() == null
+                ? null : plugin.getProtocolAdapter().getVirtualEntityPackets();
+        if (packets != null) {
+            Text.send(sender, "&bPacket bundles: &f" + packets.getBundlesSent() + " sent"
+                    + " packets=" + packets.getBundledPackets()
+                    + " &7(" + (packets.getBundlesSent() == 0L ? 0L : packets.getBundledPackets() / packets.getBundlesSent())
+                    + " per bundle)");
+        }
+        int sharedViewers = 0;
+        int sharedEntities = 0;
+        for (SharedSceneInstance instance : sessionManager.getSharedInstances()) {
+            sharedViewers += instance.getViewerIds().size();
+            sharedEntities += instance.getStage().getSceneEntities().size();
+        }
+        int ambientObserved = 0;
+        int ambientObservers = 0;
+        for (AmbientScene ambient : plugin.getAmbientSceneRuntime().getAmbientScenes()) {
+            ambientObserved += ambient.isObserved() ? 1 : 0;
+            ambientObservers += ambient.getObserverIds().size();
+        }
+        Text.send(sender, "&bAmbient scenes: &f" + plugin.getAmbientSceneRuntime().getAmbientScenes().size()
+                + " active=" + ambientObserved + " observers=" + ambientObservers);
+        com.extrascenes.scene.SceneEntityPool pool = sessionManager.getEntityPool();
+        Text.send(sender, "&bEntity pool: &fnpcs parked=" + pool.getParkedNpcs()
+                + " hits=" + pool.getNpcHits() + " misses=" + pool.getNpcMisses()
+                + " &frigs parked=" + pool.getParkedRigs()
+                + " hits=" + pool.getRigHits() + " misses=" + pool.getRigMisses()
+                + " &7evicted=" + pool.getEvictions());
+        Text.send(sender, "&bShared instances: &f" + sessionManager.getSharedInstances().size()
+                + " viewers=" + sharedViewers + " stage entities=" + sharedEntities);
+        Text.send(sender, "&bVisibility: &f" + plugin.getVisibilityController().getScopedEntityCount() + " scoped entities"
+                + " shows=" + plugin.getVisibilityController().getShowCalls()
+                + " hides=" + plugin.getVisibilityController().getHideCalls()
+                + " &7(since enable)");
+        Text.send(sender, "&bVisibility reconcile: &f" + plugin.getVisibilityController().getReconcileEvents() + " events"
+                + " skipped=" + plugin.getVisibilityController().getReconcileSkipped()
+                + " checked=" + plugin.getVisibilityController().getReconcileChecked()
+                + " corrected=" + plugin.getVisibilityController().getReconcileCorrections()
+                + " &7(join/teleport)");
+        com.extrascenes.protocol.ViewerInputFilter inputFilter = plugin.getProtocolAdapter().getViewerInputFilter();
+        Text.send(sender, "&bMovement lock: &f" + (inputFilter == null ? "move events" : "packet filter")
+                + " locked=" + ((inputFilter == null ? 0 : inputFilter.getLockedViewers()) + sessionManager.getEventMoveLocks())
+                + " swallowed=" + (inputFilter == null ? 0L : inputFilter.getSwallowedPackets()));
+        com.extrascenes.protocol.ViewerPacketFilter packetFilter = plugin.getProtocolAdapter().getViewerPacketFilter();
+        if (packetFilter != null) {
+            Text.send(sender, "&bViewer packet filter: &f" + packetFilter.getIsolatedViewers() + " isolated"
+                    + " entity drops=" + packetFilter.getDroppedEntityPackets()
+                    + " sound drops=" + packetFilter.getDroppedSoundPackets()
+                    + " resynced=" + sessionManager.getPacketIsolationResyncs());
+        }
+        for (com.extrascenes.scene.SceneSession session : sessionManager.getActiveSessions()) {
+            if (session.getPacketMoveBytesSent() == 0L && session.getPacketMoveBytesSaved() == 0L) {
+                continue;
+            }
+            Player viewer = Bukkit.getPlayer(session.getPlayerId());
+            Text.send(sender, "&7 - " + (viewer == null ? session.getPlayerId().toString() : viewer.getName())
+                    + ": &fsent=" + session.getPacketMoveBytesSent() + "B saved=" + session.getPacketMoveBytesSaved() + "B");
+        }
+        com.extrascenes.scene.CameraTimelineCache timelineCache = sessionManager.getCameraTimelineCache();
+        long lookups = timelineCache.getHits() + timelineCache.getMisses();
+        Text.send(sender, "&bCamera timeline cache: &f" + timelineCache.size() + " entries"
+                + " hits=" + timelineCache.getHits()
+                + " misses=" + timelineCache.getMisses()
+                + " &7(" + (lookups == 0L ? 0L : timelineCache.getHits() * 100L / lookups) + "% hit rate)");
+    }
+
+    private String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3fms", nanos / 1_000_000.0d);
+    }
+
     private EditorSession requireEditorSession(CommandSender sender) {
         if (!(sender instanceof Player player)) {
             Text.send(sender, "&c" + "Only players can use editor commands.");
@@ -627,7 +923,7 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
             return;
         }
         if (args.length < 2) {
-            Text.send(sender, "&c" + "Usage: /scene actor <add|rename|delete|skin|playback|scale|record> ...");
+            Text.send(sender, "&c" + "Usage: /scene actor <add|rename|delete|skin|playback|backend|scale|record> ...");
             return;
         }
         String mode = args[1].toLowerCase(Locale.ROOT);
@@ -696,8 +992,9 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
                 renamed.setSkinCacheKey(template.getSkinCacheKey());
                 renamed.setScale(template.getScale());
                 renamed.setPlaybackMode(template.getPlaybackMode());
+                renamed.setBackend(template.getBackend());
                 renamed.setPreviewEnabled(template.isPreviewEnabled());
-                renamed.getTransformTicks().putAll(template.getTransformTicks());
+                renamed.getMotion().copyFrom(template.getMotion());
                 renamed.getTickActions().putAll(template.getTickActions());
                 scene.putActorTemplate(renamed);
                 sceneManager.saveSceneImmediate(scene);
@@ -746,6 +1043,7 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
                 }
             }
             case "playback" -> handleActorPlayback(sender, args);
+            case "backend" -> handleActorBackend(sender, args);
             case "scale" -> handleActorScale(sender, player, args);
             case "record" -> handleActorRecord(sender, player, args);
             default -> Text.send(sender, "&c" + "Unknown actor subcommand.");
@@ -781,6 +1079,34 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
         }
     }
 
+    private void handleActorBackend(CommandSender sender, String[] args) {
+        if (args.length < 5) {
+            Text.send(sender, "&c" + "Usage: /scene actor backend <scene> <actorId> <default|citizens|packet>");
+            return;
+        }
+        Scene scene = sceneManager.loadScene(args[2].toLowerCase(Locale.ROOT));
+        if (scene == null) {
+            Text.send(sender, "&c" + "Scene not found.");
+            return;
+        }
+        SceneActorTemplate template = scene.getActorTemplate(args[3]);
+        if (template == null) {
+            Text.send(sender, "&c" + "Actor not found.");
+            return;
+        }
+        String backend = args[4].toUpperCase(Locale.ROOT);
+        try {
+            template.setBackend(com.extrascenes.scene.ActorBackend.valueOf(backend));
+            scene.setDirty(true);
+            sceneManager.saveScene(scene);
+            Text.send(sender, "&a" + "Actor backend updated to " + backend + ".");
+        } catch (IllegalArgumentException ex) {
+            Text.send(sender, "&c" + "Backend must be default, citizens or packet.");
+        } catch (Exception ex) {
+            Text.send(sender, "&c" + "Failed to save scene.");
+        }
+    }
+
     private void handleActorScale(CommandSender sender, Player player, String[] args) {
         if (args.length < 5) {
             Text.send(sender, "&c" + "Usage: /scene actor scale <scene> <actorId> <value|snap>");
@@ -920,15 +1246,11 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
 
         int removedTicks;
         if (fromTick == null) {
-            removedTicks = template.getTransformTicks().size();
-            template.getTransformTicks().clear();
+            removedTicks = template.getMotion().size();
+            template.getMotion().clear();
         } else {
-            final int start = fromTick;
-            final int end = toTick == null ? fromTick : toTick;
-            removedTicks = (int) template.getTransformTicks().keySet().stream()
-                    .filter(tick -> tick >= start && tick <= end)
-                    .count();
-            template.getTransformTicks().keySet().removeIf(tick -> tick >= start && tick <= end);
+            int end = toTick == null ? fromTick : toTick;
+            removedTicks = template.getMotion().removeRange(fromTick, end);
         }
 
         if (removedTicks == 0) {
@@ -995,6 +1317,30 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
             if (List.of("debugcamera", "debugpreview", "debugactors").contains(sub)) {
                 return filterPrefix(List.of("on", "off"), args[1]);
             }
+            if (sub.equals("perf")) {
+                return filterPrefix(List.of("reset", "bridge"), args[1]);
+            }
+            if (sub.equals("party")) {
+                return filterPrefix(List.of("start", "join", "leave", "list"), args[1]);
+            }
+            if (sub.equals("ambient")) {
+                return filterPrefix(List.of("add", "remove", "list"), args[1]);
+            }
+        }
+        if (sub.equals("ambient") && args.length == 3 && "remove".equalsIgnoreCase(args[1])) {
+            return filterPrefix(plugin.getAmbientSceneRuntime().getAmbientScenes().stream()
+                    .map(AmbientScene::getId).collect(Collectors.toList()), args[2]);
+        }
+        if (sub.equals("ambient") && args.length == 4 && "add".equalsIgnoreCase(args[1])) {
+            return filterPrefix(sceneManager.listScenes(), args[3]);
+        }
+        if (sub.equals("party") && args.length >= 3) {
+            if ("start".equalsIgnoreCase(args[1]) && args.length == 3) {
+                return filterPrefix(sceneManager.listScenes(), args[2]);
+            }
+            if (List.of("start", "join", "leave").contains(args[1].toLowerCase(Locale.ROOT))) {
+                return filterPrefix(onlinePlayerNames(), args[args.length - 1]);
+            }
         }
         if ((sub.equals("rename") || sub.equals("duplicate")) && args.length == 3) {
             return List.of();
@@ -1020,7 +1366,7 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
         }
         if (sub.equals("actor")) {
             if (args.length == 2) {
-                return filterPrefix(List.of("add", "rename", "delete", "skin", "playback", "scale", "record"), args[1]);
+                return filterPrefix(List.of("add", "rename", "delete", "skin", "playback", "backend", "scale", "record"), args[1]);
             }
             if (args.length == 3 && "record".equalsIgnoreCase(args[1])) {
                 return filterPrefix(List.of("start", "stop", "delete"), args[2]);
@@ -1047,10 +1393,10 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
                     return filterPrefix(List.of("confirm"), args[7]);
                 }
             }
-            if (args.length == 3 && List.of("add", "rename", "delete", "skin", "playback", "scale").contains(args[1].toLowerCase(Locale.ROOT))) {
+            if (args.length == 3 && List.of("add", "rename", "delete", "skin", "playback", "backend", "scale").contains(args[1].toLowerCase(Locale.ROOT))) {
                 return filterPrefix(sceneManager.listScenes(), args[2]);
             }
-            if (args.length == 4 && List.of("rename", "delete", "skin", "playback", "scale").contains(args[1].toLowerCase(Locale.ROOT))) {
+            if (args.length == 4 && List.of("rename", "delete", "skin", "playback", "backend", "scale").contains(args[1].toLowerCase(Locale.ROOT))) {
                 Scene scene = sceneManager.loadScene(args[2].toLowerCase(Locale.ROOT));
                 if (scene != null) {
                     return filterPrefix(new ArrayList<>(scene.getActorTemplates().keySet()), args[3]);
@@ -1062,6 +1408,9 @@ public class SceneCommandExecutor implements CommandExecutor, TabCompleter {
             if (args.length == 5 && "playback".equalsIgnoreCase(args[1])) {
                 return filterPrefix(List.of("exact", "walk"), args[4]);
             }
+            if (args.length == 5 && "backend".equalsIgnoreCase(args[1])) {
+                return filterPrefix(List.of("default", "citizens", "packet"), args[4]);
+            }
             if (args.length == 5 && "scale".equalsIgnoreCase(args[1])) {
                 return filterPrefix(List.of("snap", "1.0", "0.5", "1.5"), args[4]);
             }
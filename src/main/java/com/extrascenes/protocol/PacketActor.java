@@ -0,0 +1,197 @@
+package com.extrascenes.protocol;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+/**
+ * Scene actor rendered only on its viewer's client. Player actors are announced with an unlisted player-info
+ * entry carrying the skin textures before the entity is spawned, and their nameplate is hidden through a team that
+ * exists only on the viewer's client.
+ */
+public final class PacketActor {
+    private static final int ENTITY_FLAGS_INDEX = 0;
+    private static final int PLAYER_SKIN_PARTS_INDEX = 17;
+    private static final byte SNEAKING_FLAG = 0x02;
+    private static final byte INVISIBLE_FLAG = 0x20;
+    private static final byte GLIDING_FLAG = (byte) 0x80;
+    private static final byte ALL_SKIN_PARTS = 0x7F;
+    private static final int SWING_MAIN_HAND = 0;
+
+    private final VirtualEntity entity;
+    private final String profileName;
+    private String skinTexture;
+    private String skinSignature;
+    private byte entityFlags;
+    private byte headYaw;
+    private double scale = 1.0D;
+
+    public PacketActor(VirtualEntityPackets packets, Player viewer, EntityType type) {
+        this.entity = new VirtualEntity(packets, viewer, type == null ? EntityType.PLAYER : type);
+        this.profileName = "es" + Integer.toHexString(entity.getEntityId());
+    }
+
+    /**
+     * Sets the skin used the next time a player actor is spawned; a spawned actor is respawned with it.
+     */
+    public void setSkin(String texture, String signature) {
+        this.skinTexture = texture;
+        this.skinSignature = signature;
+        if (entity.isSpawned() && isPlayer()) {
+            float yaw = entity.getYaw();
+            float pitch = entity.getPitch();
+            double x = entity.getX();
+            double y = entity.getY();
+            double z = entity.getZ();
+            destroy();
+            spawn(x, y, z, yaw, pitch);
+        }
+    }
+
+    public void spawn(double px, double py, double pz, float pYaw, float pPitch) {
+        VirtualEntityPackets packets = entity.getPackets();
+        Player viewer = entity.getViewer();
+        if (isPlayer()) {
+            packets.addPlayerInfo(viewer, entity.getUniqueId(), profileName, skinTexture, skinSignature);
+            packets.hideNameplate(viewer, profileName, profileName);
+        }
+        entity.spawn(px, py, pz, pYaw, pPitch);
+        Map<Integer, Byte> metadata = new HashMap<>();
+        metadata.put(ENTITY_FLAGS_INDEX, entityFlags);
+        if (isPlayer()) {
+            metadata.put(PLAYER_SKIN_PARTS_INDEX, ALL_SKIN_PARTS);
+        }
+        packets.sendByteMetadata(viewer, entity.getEntityId(), metadata);
+        headYaw = ProtocolUnits.encodeAngle(pYaw);
+        packets.rotateHead(viewer, entity.getEntityId(), headYaw);
+        if (scale != 1.0D) {
+            packets.setScale(viewer, entity.getEntityId(), scale);
+        }
+    }
+
+    public void moveTo(double px, double py, double pz, float pYaw, float pPitch) {
+        if (!entity.moveTo(px, py, pz, pYaw, pPitch)) {
+            destroy();
+            spawn(px, py, pz, pYaw, pPitch);
+            return;
+        }
+        byte encodedHeadYaw = ProtocolUnits.encodeAngle(pYaw);
+        if (encodedHeadYaw != headYaw) {
+            entity.getPackets().rotateHead(entity.getViewer(), entity.getEntityId(), encodedHeadYaw);
+            headYaw = encodedHeadYaw;
+        }
+    }
+
+    public void setInvisible(boolean invisible) {
+        setFlag(INVISIBLE_FLAG, invisible);
+    }
+
+    public void setSneaking(boolean sneaking) {
+        setFlag(SNEAKING_FLAG, sneaking);
+    }
+
+    public void setGliding(boolean gliding) {
+        setFlag(GLIDING_FLAG, gliding);
+    }
+
+    public void setScale(double scale) {
+        if (this.scale == scale) {
+            return;
+        }
+        this.scale = scale;
+        if (entity.isSpawned()) {
+            entity.getPackets().setScale(entity.getViewer(), entity.getEntityId(), scale);
+        }
+    }
+
+    public void swingMainHand() {
+        if (entity.isSpawned()) {
+            entity.getPackets().animate(entity.getViewer(), entity.getEntityId(), SWING_MAIN_HAND);
+        }
+    }
+
+    public void destroy() {
+        if (!entity.isSpawned()) {
+            return;
+        }
+        entity.destroy();
+        if (isPlayer()) {
+            entity.getPackets().removePlayerInfo(entity.getViewer(), entity.getUniqueId());
+            entity.getPackets().removeTeam(entity.getViewer(), profileName);
+        }
+    }
+
+    private void setFlag(byte flag, boolean enabled) {
+        byte updated = (byte) (enabled ? entityFlags | flag : entityFlags & ~flag);
+        if (updated == entityFlags) {
+            return;
+        }
+        entityFlags = updated;
+        if (entity.isSpawned()) {
+            entity.getPackets().sendByteMetadata(entity.getViewer(), entity.getEntityId(),
+                    Map.of(ENTITY_FLAGS_INDEX, entityFlags));
+        }
+    }
+
+    public boolean isPlayer() {
+        return entity.getType() == EntityType.PLAYER;
+    }
+
+    public boolean isSpawned() {
+        return entity.isSpawned();
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+
+    public int getEntityId() {
+        return entity.getEntityId();
+    }
+
+    public UUID getUniqueId() {
+        return entity.getUniqueId();
+    }
+
+    public double getX() {
+        return entity.getX();
+    }
+
+    public double getY() {
+        return entity.getY();
+    }
+
+    public double getZ() {
+        return entity.getZ();
+    }
+
+    public float getYaw() {
+        return entity.getYaw();
+    }
+
+    public float getPitch() {
+        return entity.getPitch();
+    }
+
+    public long getRelativeMoves() {
+        return entity.getRelativeMoves();
+    }
+
+    public long getAbsoluteMoves() {
+        return entity.getAbsoluteMoves();
+    }
+
+    public long getMovementBytesSent() {
+        return entity.getMovementBytesSent();
+    }
+
+    public long getMovementBytesSaved() {
+        return entity.getMovementBytesSaved();
+    }
+
+    public void setResyncInterval(int resyncInterval) {
+        entity.setResyncInterval(resyncInterval);
+    }
+}
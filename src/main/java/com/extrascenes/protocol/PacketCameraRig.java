@@ -0,0 +1,85 @@
+package com.extrascenes.protocol;
+
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+/**
+ * Camera rig that exists only on the viewer's client: an invisible marker armor stand with a plugin-allocated
+ * entity id. Moves are sent as relative moves while they fit the protocol delta and as absolute moves otherwise.
+ */
+public final class PacketCameraRig {
+    private static final byte INVISIBLE_FLAG = 0x20;
+    private static final byte SMALL_MARKER_FLAGS = 0x01 | 0x10;
+    private static final int ENTITY_FLAGS_INDEX = 0;
+    private static final int ARMOR_STAND_FLAGS_INDEX = 15;
+
+    private final VirtualEntity entity;
+
+    public PacketCameraRig(VirtualEntityPackets packets, Player viewer) {
+        this.entity = new VirtualEntity(packets, viewer, EntityType.ARMOR_STAND);
+    }
+
+    public void spawn(double px, double py, double pz, float pYaw, float pPitch) {
+        entity.spawn(px, py, pz, pYaw, pPitch);
+        entity.getPackets().sendByteMetadata(entity.getViewer(), entity.getEntityId(), Map.of(
+                ENTITY_FLAGS_INDEX, INVISIBLE_FLAG,
+                ARMOR_STAND_FLAGS_INDEX, SMALL_MARKER_FLAGS));
+    }
+
+    public void moveTo(double px, double py, double pz, float pYaw, float pPitch) {
+        if (entity.moveTo(px, py, pz, pYaw, pPitch)) {
+            return;
+        }
+        boolean wasSpawned = entity.isSpawned();
+        entity.destroy();
+        spawn(px, py, pz, pYaw, pPitch);
+        if (wasSpawned) {
+            attach();
+        }
+    }
+
+    public void attach() {
+        if (entity.isSpawned()) {
+            entity.getPackets().setCamera(entity.getViewer(), entity.getEntityId());
+        }
+    }
+
+    public void detach() {
+        Player viewer = entity.getViewer();
+        entity.getPackets().setCamera(viewer, viewer.getEntityId());
+    }
+
+    public void destroy() {
+        entity.destroy();
+    }
+
+    public int getEntityId() {
+        return entity.getEntityId();
+    }
+
+    public UUID getUniqueId() {
+        return entity.getUniqueId();
+    }
+
+    public long getRelativeMoves() {
+        return entity.getRelativeMoves();
+    }
+
+    public long getAbsoluteMoves() {
+        return entity.getAbsoluteMoves();
+    }
+
+    public long getMovementBytesSent() {
+        return entity.getMovementBytesSent();
+    }
+
+    public long getMovementBytesSaved() {
+        return entity.getMovementBytesSaved();
+    }
+
+    public void setResyncInterval(int resyncInterval) {
+        entity.setResyncInterval(resyncInterval);
+    }
+}
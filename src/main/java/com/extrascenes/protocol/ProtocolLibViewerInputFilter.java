@@ -0,0 +1,93 @@
+package com.extrascenes.protocol;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.ListenerPriority;
+import com.comphenix.protocol.events.PacketAdapter;
+import com.comphenix.protocol.events.PacketEvent;
+import com.extrascenes.ExtraScenesPlugin;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bukkit.GameMode;
+import org.bukkit.entity.Player;
+
+/**
+ * ProtocolLib implementation of {@link ViewerInputFilter}. The listener runs on network threads and only reads
+ * the concurrent lock map, so unlocked players cost one map lookup per packet.
+ */
+public final class ProtocolLibViewerInputFilter implements ViewerInputFilter {
+    private final ProtocolManager protocolManager;
+    private final PacketAdapter listener;
+    private final Map<UUID, AtomicBoolean> locked = new ConcurrentHashMap<>();
+    private final AtomicLong swallowedPackets = new AtomicLong();
+
+    public ProtocolLibViewerInputFilter(ExtraScenesPlugin plugin) {
+        this.protocolManager = ProtocolLibrary.getProtocolManager();
+        this.listener = new PacketAdapter(plugin, ListenerPriority.LOWEST, List.of(
+                PacketType.Play.Client.POSITION,
+                PacketType.Play.Client.POSITION_LOOK,
+                PacketType.Play.Client.LOOK,
+                PacketType.Play.Client.GROUND)) {
+            @Override
+            public void onPacketReceiving(PacketEvent event) {
+                filter(event);
+            }
+        };
+        protocolManager.addPacketListener(listener);
+    }
+
+    @Override
+    public void lock(Player viewer) {
+        if (viewer != null) {
+            locked.putIfAbsent(viewer.getUniqueId(), new AtomicBoolean());
+        }
+    }
+
+    @Override
+    public boolean unlock(UUID viewerId) {
+        AtomicBoolean moved = locked.remove(viewerId);
+        return moved != null && moved.get();
+    }
+
+    @Override
+    public boolean isLocked(UUID viewerId) {
+        return locked.containsKey(viewerId);
+    }
+
+    @Override
+    public int getLockedViewers() {
+        return locked.size();
+    }
+
+    @Override
+    public long getSwallowedPackets() {
+        return swallowedPackets.get();
+    }
+
+    @Override
+    public void close() {
+        protocolManager.removePacketListener(listener);
+        locked.clear();
+    }
+
+    private void filter(PacketEvent event) {
+        if (locked.isEmpty() || event.isPlayerTemporary()) {
+            return;
+        }
+        AtomicBoolean moved = locked.get(event.getPlayer().getUniqueId());
+        if (moved == null || event.getPlayer().getGameMode() == GameMode.SPECTATOR) {
+            return;
+        }
+        event.setCancelled(true);
+        swallowedPackets.incrementAndGet();
+        if (event.getPacketType() == PacketType.Play.Client.POSITION
+                || event.getPacketType() == PacketType.Play.Client.POSITION_LOOK) {
+            moved.set(true);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.extrascenes.protocol;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.ListenerPriority;
+import com.comphenix.protocol.events.PacketAdapter;
+import com.comphenix.protocol.events.PacketEvent;
+import com.extrascenes.ExtraScenesPlugin;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+/**
+ * ProtocolLib implementation of {@link ViewerPacketFilter}. Listeners run on network threads, so per-viewer state
+ * is kept in concurrent collections and the deny set is swapped as a whole.
+ */
+public final class ProtocolLibViewerPacketFilter implements ViewerPacketFilter {
+    private static final int MAX_EXPECTED_SOUNDS = 64;
+    private static final long SOUND_WINDOW_NANOS = 100_000_000L;
+    private static final List<PacketType> ENTITY_UPDATES = List.of(
+            PacketType.Play.Server.REL_ENTITY_MOVE,
+            PacketType.Play.Server.REL_ENTITY_MOVE_LOOK,
+            PacketType.Play.Server.ENTITY_LOOK,
+            PacketType.Play.Server.ENTITY_HEAD_ROTATION,
+            PacketType.Play.Server.ENTITY_TELEPORT,
+            PacketType.Play.Server.ENTITY_POSITION_SYNC,
+            PacketType.Play.Server.ENTITY_VELOCITY,
+            PacketType.Play.Server.ENTITY_METADATA,
+            PacketType.Play.Server.ENTITY_EQUIPMENT,
+            PacketType.Play.Server.ENTITY_STATUS,
+            PacketType.Play.Server.ANIMATION,
+            PacketType.Play.Server.UPDATE_ATTRIBUTES,
+            PacketType.Play.Server.ENTITY_SOUND);
+
+    private final ProtocolManager protocolManager;
+    private final PacketAdapter listener;
+    private final Map<UUID, ViewerState> viewers = new ConcurrentHashMap<>();
+    private final AtomicLong droppedEntityPackets = new AtomicLong();
+    private final AtomicLong droppedSoundPackets = new AtomicLong();
+
+    public ProtocolLibViewerPacketFilter(ExtraScenesPlugin plugin) {
+        this.protocolManager = ProtocolLibrary.getProtocolManager();
+        List<PacketType> types = new ArrayList<>(ENTITY_UPDATES);
+        types.add(PacketType.Play.Server.NAMED_SOUND_EFFECT);
+        this.listener = new PacketAdapter(plugin, ListenerPriority.LOW, types) {
+            @Override
+            public void onPacketSending(PacketEvent event) {
+                filter(event);
+            }
+        };
+        protocolManager.addPacketListener(listener);
+    }
+
+    @Override
+    public void isolate(Player viewer) {
+        if (viewer != null) {
+            viewers.putIfAbsent(viewer.getUniqueId(), new ViewerState(viewer.getEntityId()));
+        }
+    }
+
+    @Override
+    public boolean isIsolated(UUID viewerId) {
+        return viewers.containsKey(viewerId);
+    }
+
+    @Override
+    public void setDeniedEntities(Player viewer, Set<Integer> entityIds, double radius) {
+        ViewerState state = viewer == null ? null : viewers.get(viewer.getUniqueId());
+        if (state != null) {
+            Set<Integer> denied = new HashSet<>(entityIds);
+            denied.remove(state.selfId);
+            state.denied = denied;
+            Location body = viewer.getLocation();
+            state.soundArea = new SoundArea(body.getX(), body.getY(), body.getZ(), radius);
+        }
+    }
+
+    @Override
+    public void expectSound(Player viewer, Location location) {
+        ViewerState state = viewer == null || location == null ? null : viewers.get(viewer.getUniqueId());
+        if (state == null) {
+            return;
+        }
+        if (state.expectedSounds.size() >= MAX_EXPECTED_SOUNDS) {
+            state.expectedSounds.clear();
+        }
+        state.expectedSounds.add(new SoundKey((int) (location.getX() * 8.0D), (int) (location.getY() * 8.0D),
+                (int) (location.getZ() * 8.0D)));
+    }
+
+    @Override
+    public void passSounds(Player viewer) {
+        ViewerState state = viewer == null ? null : viewers.get(viewer.getUniqueId());
+        if (state != null) {
+            state.passSoundsUntil = System.nanoTime() + SOUND_WINDOW_NANOS;
+        }
+    }
+
+    @Override
+    public Set<Integer> release(UUID viewerId) {
+        ViewerState state = viewers.remove(viewerId);
+        return state == null ? Collections.emptySet() : new HashSet<>(state.dropped);
+    }
+
+    @Override
+    public int getIsolatedViewers() {
+        return viewers.size();
+    }
+
+    @Override
+    public long getDroppedEntityPackets() {
+        return droppedEntityPackets.get();
+    }
+
+    @Override
+    public long getDroppedSoundPackets() {
+        return droppedSoundPackets.get();
+    }
+
+    @Override
+    public void close() {
+        protocolManager.removePacketListener(listener);
+        viewers.clear();
+    }
+
+    private void filter(PacketEvent event) {
+        if (viewers.isEmpty() || event.isPlayerTemporary()) {
+            return;
+        }
+        ViewerState state = viewers.get(event.getPlayer().getUniqueId());
+        if (state == null) {
+            return;
+        }
+        if (event.getPacketType() == PacketType.Play.Server.NAMED_SOUND_EFFECT) {
+            Integer x = event.getPacket().getIntegers().readSafely(0);
+            Integer y = event.getPacket().getIntegers().readSafely(1);
+            Integer z = event.getPacket().getIntegers().readSafely(2);
+            if (x == null || y == null || z == null || System.nanoTime() - state.passSoundsUntil < 0L
+                    || !state.soundArea.contains(x / 8.0D, y / 8.0D, z / 8.0D)
+                    || state.expectedSounds.remove(new SoundKey(x, y, z))) {
+                return;
+            }
+            event.setCancelled(true);
+            droppedSoundPackets.incrementAndGet();
+            return;
+        }
+        Integer entityId = event.getPacket().getIntegers().readSafely(0);
+        if (entityId == null || !state.denied.contains(entityId)) {
+            return;
+        }
+        event.setCancelled(true);
+        state.dropped.add(entityId);
+        droppedEntityPackets.incrementAndGet();
+    }
+
+    private record SoundKey(int x, int y, int z) {
+    }
+
+    private record SoundArea(double x, double y, double z, double radius) {
+        private static final SoundArea NONE = new SoundArea(0.0D, 0.0D, 0.0D, -1.0D);
+
+        private boolean contains(double px, double py, double pz) {
+            return Math.abs(px - x) <= radius && Math.abs(py - y) <= radius && Math.abs(pz - z) <= radius;
+        }
+    }
+
+    private static final class ViewerState {
+        private final int selfId;
+        private final Set<Integer> dropped = ConcurrentHashMap.newKeySet();
+        private final Set<SoundKey> expectedSounds = ConcurrentHashMap.newKeySet();
+        private volatile Set<Integer> denied = Collections.emptySet();
+        private volatile SoundArea soundArea = SoundArea.NONE;
+        private volatile long passSoundsUntil = System.nanoTime();
+
+        private ViewerState(int selfId) {
+            this.selfId = selfId;
+        }
+    }
+}
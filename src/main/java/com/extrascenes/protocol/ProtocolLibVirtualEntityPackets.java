@@ -0,0 +1,387 @@
+package com.extrascenes.protocol;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.BlockPosition;
+import com.comphenix.protocol.wrappers.EnumWrappers;
+import com.comphenix.protocol.wrappers.PlayerInfoData;
+import com.comphenix.protocol.wrappers.WrappedAttribute;
+import com.comphenix.protocol.wrappers.WrappedBlockData;
+import com.comphenix.protocol.wrappers.WrappedChatComponent;
+import com.comphenix.protocol.wrappers.WrappedDataValue;
+import com.comphenix.protocol.wrappers.WrappedDataWatcher;
+import com.comphenix.protocol.wrappers.WrappedGameProfile;
+import com.comphenix.protocol.wrappers.WrappedSignedProperty;
+import com.extrascenes.ExtraScenesPlugin;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+/**
+ * ProtocolLib implementation of {@link VirtualEntityPackets}. Only constructed when ProtocolLib is enabled.
+ */
+public final class ProtocolLibVirtualEntityPackets implements VirtualEntityPackets {
+    private static final int MAX_BUNDLE_PACKETS = 4000;
+
+    private final ExtraScenesPlugin plugin;
+    private final ProtocolManager protocolManager;
+    private final Map<UUID, List<PacketContainer>> openBundles = new HashMap<>();
+    private long bundlesSent;
+    private long bundledPackets;
+    private final MethodHandle vec3Factory;
+    private final MethodHandle positionFactory;
+    private final MethodHandle positionSyncFactory;
+    private final Object zeroVector;
+    private final Object teamScoreboard;
+    private volatile MethodHandle teamFactory;
+    private final MethodHandle teamPlayers;
+    private final MethodHandle teamHideNametag;
+    private final MethodHandle teamDisableCollision;
+    private final MethodHandle addTeamPacketFactory;
+    private final MethodHandle removeTeamPacketFactory;
+
+    public ProtocolLibVirtualEntityPackets(ExtraScenesPlugin plugin) {
+        this.plugin = plugin;
+        this.protocolManager = ProtocolLibrary.getProtocolManager();
+        MethodHandle vec3 = null;
+        MethodHandle position = null;
+        MethodHandle positionSync = null;
+        Object zero = null;
+        try {
+            ClassLoader serverLoader = Bukkit.getServer().getClass().getClassLoader();
+            Class<?> vec3Class = Class.forName("net.minecraft.world.phys.Vec3", false, serverLoader);
+            Class<?> positionClass = Class.forName("net.minecraft.world.entity.PositionMoveRotation", false, serverLoader);
+            Class<?> packetClass = Class.forName("net.minecraft.network.protocol.game.ClientboundEntityPositionSyncPacket",
+                    false, serverLoader);
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            vec3 = lookup.findConstructor(vec3Class, MethodType.methodType(void.class, double.class, double.class, double.class));
+            position = lookup.findConstructor(positionClass,
+                    MethodType.methodType(void.class, vec3Class, vec3Class, float.class, float.class));
+            positionSync = lookup.findConstructor(packetClass,
+                    MethodType.methodType(void.class, int.class, positionClass, boolean.class));
+            zero = vec3.invoke(0.0D, 0.0D, 0.0D);
+        } catch (Throwable throwable) {
+            plugin.getLogger().warning("[protocol] absolute entity moves unavailable, virtual entities will respawn instead: "
+                    + throwable.getMessage());
+            vec3 = null;
+            position = null;
+            positionSync = null;
+        }
+        this.vec3Factory = vec3;
+        this.positionFactory = position;
+        this.positionSyncFactory = positionSync;
+        this.zeroVector = zero;
+
+        Object scoreboard = null;
+        MethodHandle team = null;
+        MethodHandle players = null;
+        MethodHandle hideNametag = null;
+        MethodHandle disableCollision = null;
+        MethodHandle addTeam = null;
+        MethodHandle removeTeam = null;
+        try {
+            ClassLoader serverLoader = Bukkit.getServer().getClass().getClassLoader();
+            Class<?> scoreboardClass = Class.forName("net.minecraft.world.scores.Scoreboard", false, serverLoader);
+            Class<?> teamClass = Class.forName("net.minecraft.world.scores.PlayerTeam", false, serverLoader);
+            Class<?> visibilityClass = Class.forName("net.minecraft.world.scores.Team$Visibility", false, serverLoader);
+            Class<?> collisionClass = Class.forName("net.minecraft.world.scores.Team$CollisionRule", false, serverLoader);
+            Class<?> packetClass = Class.forName("net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket",
+                    false, serverLoader);
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            scoreboard = lookup.findConstructor(scoreboardClass, MethodType.methodType(void.class)).invoke();
+            team = lookup.findConstructor(teamClass, MethodType.methodType(void.class, scoreboardClass, String.class));
+            players = lookup.findVirtual(teamClass, "getPlayers", MethodType.methodType(java.util.Collection.class));
+            hideNametag = MethodHandles.insertArguments(
+                    lookup.findVirtual(teamClass, "setNameTagVisibility", MethodType.methodType(void.class, visibilityClass)),
+                    1, enumConstant(visibilityClass, "NEVER"));
+            disableCollision = MethodHandles.insertArguments(
+                    lookup.findVirtual(teamClass, "setCollisionRule", MethodType.methodType(void.class, collisionClass)),
+                    1, enumConstant(collisionClass, "NEVER"));
+            addTeam = lookup.findStatic(packetClass, "createAddOrModifyPacket",
+                    MethodType.methodType(packetClass, teamClass, boolean.class));
+            removeTeam = lookup.findStatic(packetClass, "createRemovePacket", MethodType.methodType(packetClass, teamClass));
+        } catch (Throwable throwable) {
+            plugin.getLogger().warning("[protocol] client-side teams unavailable, packet actor nameplates stay visible: "
+                    + throwable.getMessage());
+            scoreboard = null;
+            team = null;
+        }
+        this.teamScoreboard = scoreboard;
+        this.teamFactory = team;
+        this.teamPlayers = players;
+        this.teamHideNametag = hideNametag;
+        this.teamDisableCollision = disableCollision;
+        this.addTeamPacketFactory = addTeam;
+        this.removeTeamPacketFactory = removeTeam;
+    }
+
+    private static Object enumConstant(Class<?> type, String name) {
+        for (Object constant : type.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("No " + name + " in " + type.getName());
+    }
+
+    @Override
+    public int allocateEntityId() {
+        return Bukkit.getUnsafe().nextEntityId();
+    }
+
+    @Override
+    public void spawn(Player viewer, int entityId, UUID uuid, EntityType type,
+                      double x, double y, double z, float yaw, float pitch) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.SPAWN_ENTITY);
+        packet.getIntegers().write(0, entityId);
+        packet.getUUIDs().write(0, uuid);
+        packet.getEntityTypeModifier().write(0, type);
+        packet.getDoubles().write(0, x).write(1, y).write(2, z);
+        packet.getBytes()
+                .write(0, ProtocolUnits.encodeAngle(pitch))
+                .write(1, ProtocolUnits.encodeAngle(yaw))
+                .write(2, ProtocolUnits.encodeAngle(yaw));
+        send(viewer, packet);
+    }
+
+    @Override
+    public void addPlayerInfo(Player viewer, UUID uuid, String name, String skinTexture, String skinSignature) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.PLAYER_INFO);
+        packet.getPlayerInfoActions().write(0, EnumSet.of(EnumWrappers.PlayerInfoAction.ADD_PLAYER));
+        WrappedGameProfile profile = new WrappedGameProfile(uuid, name);
+        if (skinTexture != null && !skinTexture.isBlank()) {
+            profile.getProperties().put("textures", new WrappedSignedProperty("textures", skinTexture,
+                    skinSignature == null || skinSignature.isBlank() ? null : skinSignature));
+        }
+        packet.getPlayerInfoDataLists().write(1, List.of(new PlayerInfoData(uuid, 0, false,
+                EnumWrappers.NativeGameMode.SURVIVAL, profile, null)));
+        send(viewer, packet);
+    }
+
+    @Override
+    public void removePlayerInfo(Player viewer, UUID uuid) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.PLAYER_INFO_REMOVE);
+        packet.getUUIDLists().write(0, List.of(uuid));
+        send(viewer, packet);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void hideNameplate(Player viewer, String teamName, String entry) {
+        if (teamFactory == null) {
+            return;
+        }
+        try {
+            Object team = teamFactory.invoke(teamScoreboard, teamName);
+            teamHideNametag.invoke(team);
+            teamDisableCollision.invoke(team);
+            ((java.util.Collection<String>) teamPlayers.invoke(team)).add(entry);
+            send(viewer, PacketContainer.fromPacket(addTeamPacketFactory.invoke(team, true)));
+        } catch (Throwable throwable) {
+            disableTeams(throwable);
+        }
+    }
+
+    @Override
+    public void removeTeam(Player viewer, String teamName) {
+        if (teamFactory == null) {
+            return;
+        }
+        try {
+            Object team = teamFactory.invoke(teamScoreboard, teamName);
+            send(viewer, PacketContainer.fromPacket(removeTeamPacketFactory.invoke(team)));
+        } catch (Throwable throwable) {
+            disableTeams(throwable);
+        }
+    }
+
+    private void disableTeams(Throwable throwable) {
+        if (teamFactory == null) {
+            return;
+        }
+        teamFactory = null;
+        plugin.getLogger().warning("[protocol] client-side team packet failed, packet actor nameplates stay visible: "
+                + throwable);
+    }
+
+    @Override
+    public void sendByteMetadata(Player viewer, int entityId, Map<Integer, Byte> values) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_METADATA);
+        packet.getIntegers().write(0, entityId);
+        List<WrappedDataValue> dataValues = new ArrayList<>(values.size());
+        WrappedDataWatcher.Serializer byteSerializer = WrappedDataWatcher.Registry.get(Byte.class);
+        for (Map.Entry<Integer, Byte> entry : values.entrySet()) {
+            dataValues.add(new WrappedDataValue(entry.getKey(), byteSerializer, entry.getValue()));
+        }
+        packet.getDataValueCollectionModifier().write(0, dataValues);
+        send(viewer, packet);
+    }
+
+    @Override
+    public void moveRelative(Player viewer, int entityId, short dx, short dy, short dz, byte yaw, byte pitch,
+                             boolean onGround) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.REL_ENTITY_MOVE_LOOK);
+        packet.getIntegers().write(0, entityId);
+        packet.getShorts().write(0, dx).write(1, dy).write(2, dz);
+        packet.getBytes().write(0, yaw).write(1, pitch);
+        packet.getBooleans().write(0, onGround);
+        send(viewer, packet);
+    }
+
+    @Override
+    public void rotate(Player viewer, int entityId, byte yaw, byte pitch, boolean onGround) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_LOOK);
+        packet.getIntegers().write(0, entityId);
+        packet.getBytes().write(0, yaw).write(1, pitch);
+        packet.getBooleans().write(0, onGround);
+        send(viewer, packet);
+    }
+
+    @Override
+    public void rotateHead(Player viewer, int entityId, byte headYaw) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_HEAD_ROTATION);
+        packet.getIntegers().write(0, entityId);
+        packet.getBytes().write(0, headYaw);
+        send(viewer, packet);
+    }
+
+    @Override
+    public boolean teleport(Player viewer, int entityId, double x, double y, double z, float yaw, float pitch,
+                            boolean onGround) {
+        if (positionSyncFactory == null) {
+            return false;
+        }
+        try {
+            Object position = positionFactory.invoke(vec3Factory.invoke(x, y, z), zeroVector, yaw, pitch);
+            Object handle = positionSyncFactory.invoke(entityId, position, onGround);
+            send(viewer, PacketContainer.fromPacket(handle));
+            return true;
+        } catch (Throwable throwable) {
+            return false;
+        }
+    }
+
+    @Override
+    public void animate(Player viewer, int entityId, int animation) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ANIMATION);
+        packet.getIntegers().write(0, entityId).write(1, animation);
+        send(viewer, packet);
+    }
+
+    @Override
+    public void setScale(Player viewer, int entityId, double scale) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.UPDATE_ATTRIBUTES);
+        packet.getIntegers().write(0, entityId);
+        WrappedAttribute attribute = WrappedAttribute.newBuilder()
+                .packet(packet)
+                .attributeKey("scale")
+                .baseValue(scale)
+                .modifiers(Collections.emptyList())
+                .build();
+        packet.getAttributeCollectionModifier().write(0, List.of(attribute));
+        send(viewer, packet);
+    }
+
+    @Override
+    public void setCamera(Player viewer, int entityId) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.CAMERA);
+        packet.getIntegers().write(0, entityId);
+        send(viewer, packet);
+    }
+
+    @Override
+    public void destroy(Player viewer, int... entityIds) {
+        if (entityIds.length == 0) {
+            return;
+        }
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.ENTITY_DESTROY);
+        List<Integer> ids = new ArrayList<>(entityIds.length);
+        for (int entityId : entityIds) {
+            ids.add(entityId);
+        }
+        packet.getIntLists().write(0, ids);
+        send(viewer, packet);
+    }
+
+    @Override
+    public void sendActionBar(Player viewer, String legacyText) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.SET_ACTION_BAR_TEXT);
+        packet.getChatComponents().write(0, WrappedChatComponent.fromLegacyText(legacyText == null ? "" : legacyText));
+        send(viewer, packet);
+    }
+
+    @Override
+    public void sendBlockChange(Player viewer, Location location, Material material) {
+        PacketContainer packet = protocolManager.createPacket(PacketType.Play.Server.BLOCK_CHANGE);
+        packet.getBlockPositionModifier().write(0,
+                new BlockPosition(location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+        packet.getBlockData().write(0, WrappedBlockData.createData(material));
+        send(viewer, packet);
+    }
+
+    @Override
+    public void beginBundle(Player viewer) {
+        if (viewer != null) {
+            openBundles.putIfAbsent(viewer.getUniqueId(), new ArrayList<>());
+        }
+    }
+
+    @Override
+    public void flushBundle(Player viewer) {
+        if (viewer == null) {
+            return;
+        }
+        List<PacketContainer> packets = openBundles.remove(viewer.getUniqueId());
+        if (packets == null || packets.isEmpty() || !viewer.isOnline()) {
+            return;
+        }
+        if (packets.size() == 1) {
+            protocolManager.sendServerPacket(viewer, packets.get(0));
+            return;
+        }
+        for (int from = 0; from < packets.size(); from += MAX_BUNDLE_PACKETS) {
+            List<PacketContainer> part = packets.subList(from, Math.min(packets.size(), from + MAX_BUNDLE_PACKETS));
+            PacketContainer bundle = protocolManager.createPacket(PacketType.Play.Server.BUNDLE);
+            bundle.getPacketBundles().write(0, new ArrayList<>(part));
+            protocolManager.sendServerPacket(viewer, bundle);
+            bundlesSent++;
+            bundledPackets += part.size();
+        }
+    }
+
+    @Override
+    public long getBundlesSent() {
+        return bundlesSent;
+    }
+
+    @Override
+    public long getBundledPackets() {
+        return bundledPackets;
+    }
+
+    private void send(Player viewer, PacketContainer packet) {
+        if (viewer == null || !viewer.isOnline()) {
+            return;
+        }
+        List<PacketContainer> bundle = openBundles.get(viewer.getUniqueId());
+        if (bundle != null) {
+            bundle.add(packet);
+            return;
+        }
+        protocolManager.sendServerPacket(viewer, packet);
+    }
+}
@@ -0,0 +1,51 @@
+package com.extrascenes.protocol;
+
+/**
+ * Fixed-point encodings used by entity movement packets.
+ */
+public final class ProtocolUnits {
+    public static final double DELTA_SCALE = 4096.0D;
+    public static final double MAX_RELATIVE_DELTA = Short.MAX_VALUE / DELTA_SCALE;
+
+    private ProtocolUnits() {
+    }
+
+    /**
+     * @return the delta in 1/4096 block units, or {@link Integer#MIN_VALUE} when it does not fit a relative move
+     */
+    public static int encodeDelta(double delta) {
+        long encoded = Math.round(delta * DELTA_SCALE);
+        if (encoded > Short.MAX_VALUE || encoded < Short.MIN_VALUE) {
+            return Integer.MIN_VALUE;
+        }
+        return (int) encoded;
+    }
+
+    public static byte encodeAngle(float degrees) {
+        return (byte) Math.floor(degrees * 256.0F / 360.0F);
+    }
+
+    public static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Uncompressed size of a position sync: id, entity, position and velocity doubles, rotation floats, ground flag.
+     */
+    public static int absoluteMoveBytes(int entityId) {
+        return 1 + varIntSize(entityId) + 6 * Double.BYTES + 2 * Float.BYTES + 1;
+    }
+
+    public static int relativeMoveBytes(int entityId) {
+        return 1 + varIntSize(entityId) + 3 * Short.BYTES + 2 + 1;
+    }
+
+    public static int rotationBytes(int entityId) {
+        return 1 + varIntSize(entityId) + 2 + 1;
+    }
+}
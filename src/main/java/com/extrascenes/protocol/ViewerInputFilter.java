@@ -0,0 +1,26 @@
+package com.extrascenes.protocol;
+
+import java.util.UUID;
+import org.bukkit.entity.Player;
+
+/**
+ * Swallows position and rotation packets from locked viewers before the server processes them, so a locked
+ * viewer never moves server-side and never gets a correction back. Spectators are left alone; their position
+ * follows the camera target. Implementations hide the protocol library.
+ */
+public interface ViewerInputFilter {
+    void lock(Player viewer);
+
+    /**
+     * @return true when a position change was swallowed, i.e. the client may stand somewhere the server does not
+     */
+    boolean unlock(UUID viewerId);
+
+    boolean isLocked(UUID viewerId);
+
+    int getLockedViewers();
+
+    long getSwallowedPackets();
+
+    void close();
+}
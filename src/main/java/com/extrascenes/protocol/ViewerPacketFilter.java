@@ -0,0 +1,52 @@
+package com.extrascenes.protocol;
+
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+/**
+ * Drops outbound world traffic a cinematic viewer cannot see. While a viewer is isolated, update packets for the
+ * entity ids in its deny set and sound packets within the isolation radius of its body that the scene did not
+ * announce through {@link #expectSound} or {@link #passSounds} are cancelled. Spawns and removals always pass, so the client's entity list stays consistent and a resync of the
+ * dropped entities is enough to catch up. Implementations hide the protocol library.
+ */
+public interface ViewerPacketFilter {
+    void isolate(Player viewer);
+
+    boolean isIsolated(UUID viewerId);
+
+    /**
+     * Replaces the set of entity ids whose updates are dropped for the viewer and re-centers the sound filter on the
+     * viewer's current position.
+     *
+     * @param radius half-size of the box around the body in which unannounced sounds are dropped
+     */
+    void setDeniedEntities(Player viewer, Set<Integer> entityIds, double radius);
+
+    /**
+     * Lets the next sound the server sends the viewer at this location through.
+     */
+    void expectSound(Player viewer, Location location);
+
+    /**
+     * Lets every sound through for the viewer for a short window, so sounds played by commands the scene dispatches
+     * this tick reach the client.
+     */
+    void passSounds(Player viewer);
+
+    /**
+     * Stops filtering for the viewer.
+     *
+     * @return ids of the entities that had at least one update dropped
+     */
+    Set<Integer> release(UUID viewerId);
+
+    int getIsolatedViewers();
+
+    long getDroppedEntityPackets();
+
+    long getDroppedSoundPackets();
+
+    void close();
+}
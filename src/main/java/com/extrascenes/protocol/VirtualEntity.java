@@ -0,0 +1,180 @@
+package com.extrascenes.protocol;
+
+import java.util.UUID;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+/**
+ * One client-side entity as last sent to its viewer. Positions are tracked in protocol fixed point so relative
+ * moves never drift from what the client holds. Every move is sent as the smallest packet that reaches the
+ * target: nothing, rotation only or a relative move, with an absolute move past the delta limit and every
+ * {@code resyncInterval} moves. Bytes saved are measured against sending every move as an absolute move.
+ */
+public final class VirtualEntity {
+    private final VirtualEntityPackets packets;
+    private final Player viewer;
+    private final EntityType type;
+    private final int entityId;
+    private final UUID uuid = UUID.randomUUID();
+    private boolean spawned;
+    private double x;
+    private double y;
+    private double z;
+    private byte yaw;
+    private byte pitch;
+    private int resyncInterval;
+    private int movesSinceResync;
+    private long relativeMoves;
+    private long absoluteMoves;
+    private long movementBytesSent;
+    private long movementBytesSaved;
+
+    public VirtualEntity(VirtualEntityPackets packets, Player viewer, EntityType type) {
+        this.packets = packets;
+        this.viewer = viewer;
+        this.type = type;
+        this.entityId = packets.allocateEntityId();
+    }
+
+    public void spawn(double px, double py, double pz, float pYaw, float pPitch) {
+        packets.spawn(viewer, entityId, uuid, type, px, py, pz, pYaw, pPitch);
+        x = px;
+        y = py;
+        z = pz;
+        yaw = ProtocolUnits.encodeAngle(pYaw);
+        pitch = ProtocolUnits.encodeAngle(pPitch);
+        movesSinceResync = 0;
+        spawned = true;
+    }
+
+    /**
+     * @return false when the entity is not spawned or an absolute move could not be sent; the owner respawns it
+     */
+    public boolean moveTo(double px, double py, double pz, float pYaw, float pPitch) {
+        if (!spawned) {
+            return false;
+        }
+        byte encodedYaw = ProtocolUnits.encodeAngle(pYaw);
+        byte encodedPitch = ProtocolUnits.encodeAngle(pPitch);
+        int dx = ProtocolUnits.encodeDelta(px - x);
+        int dy = ProtocolUnits.encodeDelta(py - y);
+        int dz = ProtocolUnits.encodeDelta(pz - z);
+        int absoluteBytes = ProtocolUnits.absoluteMoveBytes(entityId);
+        boolean resync = resyncInterval > 0 && movesSinceResync >= resyncInterval;
+        if (resync || dx == Integer.MIN_VALUE || dy == Integer.MIN_VALUE || dz == Integer.MIN_VALUE) {
+            if (!packets.teleport(viewer, entityId, px, py, pz, pYaw, pPitch, false)) {
+                return false;
+            }
+            x = px;
+            y = py;
+            z = pz;
+            yaw = encodedYaw;
+            pitch = encodedPitch;
+            movesSinceResync = 0;
+            absoluteMoves++;
+            movementBytesSent += absoluteBytes;
+            return true;
+        }
+        movesSinceResync++;
+        if (dx == 0 && dy == 0 && dz == 0) {
+            if (encodedYaw != yaw || encodedPitch != pitch) {
+                packets.rotate(viewer, entityId, encodedYaw, encodedPitch, false);
+                yaw = encodedYaw;
+                pitch = encodedPitch;
+                relativeMoves++;
+                int rotationBytes = ProtocolUnits.rotationBytes(entityId);
+                movementBytesSent += rotationBytes;
+                movementBytesSaved += absoluteBytes - rotationBytes;
+            } else {
+                movementBytesSaved += absoluteBytes;
+            }
+            return true;
+        }
+        packets.moveRelative(viewer, entityId, (short) dx, (short) dy, (short) dz, encodedYaw, encodedPitch, false);
+        x += dx / ProtocolUnits.DELTA_SCALE;
+        y += dy / ProtocolUnits.DELTA_SCALE;
+        z += dz / ProtocolUnits.DELTA_SCALE;
+        yaw = encodedYaw;
+        pitch = encodedPitch;
+        relativeMoves++;
+        int relativeBytes = ProtocolUnits.relativeMoveBytes(entityId);
+        movementBytesSent += relativeBytes;
+        movementBytesSaved += absoluteBytes - relativeBytes;
+        return true;
+    }
+
+    /**
+     * @param resyncInterval moves between forced absolute moves, 0 to only send them past the delta limit
+     */
+    public void setResyncInterval(int resyncInterval) {
+        this.resyncInterval = Math.max(0, resyncInterval);
+    }
+
+    public void destroy() {
+        if (!spawned) {
+            return;
+        }
+        packets.destroy(viewer, entityId);
+        spawned = false;
+    }
+
+    public VirtualEntityPackets getPackets() {
+        return packets;
+    }
+
+    public Player getViewer() {
+        return viewer;
+    }
+
+    public EntityType getType() {
+        return type;
+    }
+
+    public int getEntityId() {
+        return entityId;
+    }
+
+    public UUID getUniqueId() {
+        return uuid;
+    }
+
+    public boolean isSpawned() {
+        return spawned;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getZ() {
+        return z;
+    }
+
+    public float getYaw() {
+        return yaw * 360.0F / 256.0F;
+    }
+
+    public float getPitch() {
+        return pitch * 360.0F / 256.0F;
+    }
+
+    public long getRelativeMoves() {
+        return relativeMoves;
+    }
+
+    public long getAbsoluteMoves() {
+        return absoluteMoves;
+    }
+
+    public long getMovementBytesSent() {
+        return movementBytesSent;
+    }
+
+    public long getMovementBytesSaved() {
+        return movementBytesSaved;
+    }
+}
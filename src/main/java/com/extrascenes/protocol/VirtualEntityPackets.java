@@ -0,0 +1,71 @@
+package com.extrascenes.protocol;
+
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+/**
+ * Sends packets for entities that exist only on one viewer's client. Implementations hide the protocol
+ * library so callers can be loaded without it. Between {@link #beginBundle} and {@link #flushBundle} a viewer's
+ * packets are held back and delivered as one bundle, which the client applies in a single frame.
+ */
+public interface VirtualEntityPackets {
+    int allocateEntityId();
+
+    void spawn(Player viewer, int entityId, UUID uuid, EntityType type,
+               double x, double y, double z, float yaw, float pitch);
+
+    /**
+     * Adds an unlisted player-info entry so the client can spawn a player entity with this profile.
+     */
+    void addPlayerInfo(Player viewer, UUID uuid, String name, String skinTexture, String skinSignature);
+
+    void removePlayerInfo(Player viewer, UUID uuid);
+
+    /**
+     * Creates a team on the viewer's client only, with the entry in it and its nametag and collision disabled.
+     * Nothing is registered on a server scoreboard, so no other player sees it and nothing is saved.
+     */
+    void hideNameplate(Player viewer, String teamName, String entry);
+
+    void removeTeam(Player viewer, String teamName);
+
+    void sendByteMetadata(Player viewer, int entityId, Map<Integer, Byte> values);
+
+    void moveRelative(Player viewer, int entityId, short dx, short dy, short dz, byte yaw, byte pitch, boolean onGround);
+
+    void rotate(Player viewer, int entityId, byte yaw, byte pitch, boolean onGround);
+
+    void rotateHead(Player viewer, int entityId, byte headYaw);
+
+    /**
+     * @return false when the absolute move could not be encoded and the caller has to respawn the entity
+     */
+    boolean teleport(Player viewer, int entityId, double x, double y, double z, float yaw, float pitch, boolean onGround);
+
+    void animate(Player viewer, int entityId, int animation);
+
+    void setScale(Player viewer, int entityId, double scale);
+
+    void setCamera(Player viewer, int entityId);
+
+    void destroy(Player viewer, int... entityIds);
+
+    void sendActionBar(Player viewer, String legacyText);
+
+    void sendBlockChange(Player viewer, Location location, Material material);
+
+    void beginBundle(Player viewer);
+
+    /**
+     * Sends the packets collected since {@link #beginBundle}; a single packet is sent without a bundle.
+     */
+    void flushBundle(Player viewer);
+
+    long getBundlesSent();
+
+    long getBundledPackets();
+}
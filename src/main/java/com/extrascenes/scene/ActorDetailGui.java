@@ -6,7 +6,6 @@ import com.extrascenes.ExtraScenesPlugin;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.stream.Collectors;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -36,9 +35,9 @@ public class ActorDetailGui implements EditorGui {
 
         int groupStart = ((session.getCurrentTick() - 1) / 9) * 9 + 1;
         List<Integer> ticks = new ArrayList<>();
-        for (Map.Entry<Integer, ActorTransformTick> entry : actor.getTransformTicks().entrySet()) {
-            if (entry.getKey() >= groupStart && entry.getKey() < groupStart + 9) {
-                ticks.add(entry.getKey());
+        for (int tick = groupStart; tick < groupStart + 9; tick++) {
+            if (actor.getMotion().isRecorded(tick)) {
+                ticks.add(tick);
             }
         }
 
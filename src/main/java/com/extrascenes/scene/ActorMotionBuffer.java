@@ -0,0 +1,373 @@
+package com.extrascenes.scene;
+
+import java.util.Arrays;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * Recorded actor motion stored as dense primitive channels indexed by {@code tick - firstTick}.
+ * Ticks that were never recorded between two samples hold a copy of the previous sample, so a lookup
+ * is a single array index and playback carries the last pose forward across gaps.
+ */
+public class ActorMotionBuffer {
+    public static final byte FLAG_SNEAKING = 1;
+    public static final byte FLAG_SPRINTING = 1 << 1;
+    public static final byte FLAG_SWIMMING = 1 << 2;
+    public static final byte FLAG_GLIDING = 1 << 3;
+    private static final byte FLAG_RECORDED = 1 << 4;
+    private static final byte POSE_FLAGS = FLAG_SNEAKING | FLAG_SPRINTING | FLAG_SWIMMING | FLAG_GLIDING;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int baseTick;
+    private int length;
+    private int recordedCount;
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private double[] z = new double[0];
+    private float[] yaw = new float[0];
+    private float[] pitch = new float[0];
+    private byte[] flags = new byte[0];
+    private byte[] worldSlot = new byte[0];
+    private String[] worldPalette = new String[0];
+
+    public static byte packFlags(boolean sneaking, boolean sprinting, boolean swimming, boolean gliding) {
+        byte packed = 0;
+        if (sneaking) {
+            packed |= FLAG_SNEAKING;
+        }
+        if (sprinting) {
+            packed |= FLAG_SPRINTING;
+        }
+        if (swimming) {
+            packed |= FLAG_SWIMMING;
+        }
+        if (gliding) {
+            packed |= FLAG_GLIDING;
+        }
+        return packed;
+    }
+
+    public void record(int tick, Transform transform, byte poseFlags) {
+        if (transform == null) {
+            return;
+        }
+        record(tick, transform.getX(), transform.getY(), transform.getZ(),
+                transform.getYaw(), transform.getPitch(), transform.getWorldName(), poseFlags);
+    }
+
+    public void record(int tick, double px, double py, double pz, float pYaw, float pPitch,
+                       String worldName, byte poseFlags) {
+        int index;
+        if (length == 0) {
+            ensureCapacity(1);
+            baseTick = tick;
+            length = 1;
+            index = 0;
+        } else if (tick < baseTick) {
+            int shift = baseTick - tick;
+            ensureCapacity(length + shift);
+            shiftRight(shift);
+            baseTick = tick;
+            length += shift;
+            index = 0;
+            write(index, px, py, pz, pYaw, pPitch, worldName, poseFlags);
+            recordedCount++;
+            fillFrom(index, 1, shift);
+            return;
+        } else {
+            index = tick - baseTick;
+            if (index >= length) {
+                ensureCapacity(index + 1);
+                fillFrom(length - 1, length, index);
+                length = index + 1;
+            }
+        }
+        boolean existed = isRecordedIndex(index);
+        write(index, px, py, pz, pYaw, pPitch, worldName, poseFlags);
+        if (!existed) {
+            recordedCount++;
+        }
+        int next = index + 1;
+        while (next < length && !isRecordedIndex(next)) {
+            next++;
+        }
+        fillFrom(index, index + 1, next);
+    }
+
+    /**
+     * @return sample index for the tick, carrying the last sample forward past the end; -1 before the first sample
+     */
+    public int indexAt(int tick) {
+        if (length == 0 || tick < baseTick) {
+            return -1;
+        }
+        int index = tick - baseTick;
+        return index >= length ? length - 1 : index;
+    }
+
+    public boolean isRecorded(int tick) {
+        int index = tick - baseTick;
+        return length > 0 && index >= 0 && index < length && isRecordedIndex(index);
+    }
+
+    public boolean remove(int tick) {
+        return removeRange(tick, tick) > 0;
+    }
+
+    public int removeRange(int fromTick, int toTick) {
+        if (length == 0 || toTick < baseTick || fromTick > baseTick + length - 1) {
+            return 0;
+        }
+        int from = Math.max(0, fromTick - baseTick);
+        int to = Math.min(length - 1, toTick - baseTick);
+        int removed = 0;
+        for (int i = from; i <= to; i++) {
+            if (isRecordedIndex(i)) {
+                flags[i] &= ~FLAG_RECORDED;
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            recordedCount -= removed;
+            compact();
+        }
+        return removed;
+    }
+
+    public void clear() {
+        baseTick = 0;
+        length = 0;
+        recordedCount = 0;
+        worldPalette = new String[0];
+    }
+
+    public void copyFrom(ActorMotionBuffer other) {
+        if (other == null || other == this) {
+            return;
+        }
+        baseTick = other.baseTick;
+        length = other.length;
+        recordedCount = other.recordedCount;
+        x = Arrays.copyOf(other.x, other.length);
+        y = Arrays.copyOf(other.y, other.length);
+        z = Arrays.copyOf(other.z, other.length);
+        yaw = Arrays.copyOf(other.yaw, other.length);
+        pitch = Arrays.copyOf(other.pitch, other.length);
+        flags = Arrays.copyOf(other.flags, other.length);
+        worldSlot = Arrays.copyOf(other.worldSlot, other.length);
+        worldPalette = other.worldPalette.clone();
+    }
+
+    public void trimToSize() {
+        if (x.length != length) {
+            resize(length);
+        }
+    }
+
+    public boolean isEmpty() {
+        return recordedCount == 0;
+    }
+
+    /**
+     * @return number of recorded ticks, excluding carried-forward gap ticks
+     */
+    public int size() {
+        return recordedCount;
+    }
+
+    public int getFirstTick() {
+        return baseTick;
+    }
+
+    public int getLastTick() {
+        return baseTick + length - 1;
+    }
+
+    public int[] getRecordedTicks() {
+        int[] ticks = new int[recordedCount];
+        int cursor = 0;
+        for (int i = 0; i < length; i++) {
+            if (isRecordedIndex(i)) {
+                ticks[cursor++] = baseTick + i;
+            }
+        }
+        return ticks;
+    }
+
+    public double getX(int index) {
+        return x[index];
+    }
+
+    public double getY(int index) {
+        return y[index];
+    }
+
+    public double getZ(int index) {
+        return z[index];
+    }
+
+    public float getYaw(int index) {
+        return yaw[index];
+    }
+
+    public float getPitch(int index) {
+        return pitch[index];
+    }
+
+    public byte getPoseFlags(int index) {
+        return (byte) (flags[index] & POSE_FLAGS);
+    }
+
+    public boolean isSneaking(int index) {
+        return (flags[index] & FLAG_SNEAKING) != 0;
+    }
+
+    public boolean isSprinting(int index) {
+        return (flags[index] & FLAG_SPRINTING) != 0;
+    }
+
+    public boolean isSwimming(int index) {
+        return (flags[index] & FLAG_SWIMMING) != 0;
+    }
+
+    public boolean isGliding(int index) {
+        return (flags[index] & FLAG_GLIDING) != 0;
+    }
+
+    public String getWorldName(int index) {
+        int slot = worldSlot[index] & 0xFF;
+        return slot == 0 ? null : worldPalette[slot - 1];
+    }
+
+    public Location applyTo(int index, Location location) {
+        String worldName = getWorldName(index);
+        if (worldName != null && (location.getWorld() == null || !worldName.equals(location.getWorld().getName()))) {
+            World world = Bukkit.getWorld(worldName);
+            if (world != null) {
+                location.setWorld(world);
+            }
+        }
+        location.setX(x[index]);
+        location.setY(y[index]);
+        location.setZ(z[index]);
+        location.setYaw(yaw[index]);
+        location.setPitch(pitch[index]);
+        return location;
+    }
+
+    public Transform toTransform(int index) {
+        return new Transform(x[index], y[index], z[index], yaw[index], pitch[index], getWorldName(index));
+    }
+
+    public ActorTransformTick toTransformTick(int index) {
+        return new ActorTransformTick(baseTick + index, toTransform(index),
+                isSneaking(index), isSprinting(index), isSwimming(index), isGliding(index));
+    }
+
+    private boolean isRecordedIndex(int index) {
+        return (flags[index] & FLAG_RECORDED) != 0;
+    }
+
+    private void write(int index, double px, double py, double pz, float pYaw, float pPitch,
+                       String worldName, byte poseFlags) {
+        x[index] = px;
+        y[index] = py;
+        z[index] = pz;
+        yaw[index] = pYaw;
+        pitch[index] = pPitch;
+        flags[index] = (byte) ((poseFlags & POSE_FLAGS) | FLAG_RECORDED);
+        worldSlot[index] = worldSlotFor(worldName);
+    }
+
+    private void fillFrom(int source, int fromIndex, int toIndexExclusive) {
+        for (int i = fromIndex; i < toIndexExclusive; i++) {
+            x[i] = x[source];
+            y[i] = y[source];
+            z[i] = z[source];
+            yaw[i] = yaw[source];
+            pitch[i] = pitch[source];
+            flags[i] = (byte) (flags[source] & POSE_FLAGS);
+            worldSlot[i] = worldSlot[source];
+        }
+    }
+
+    private void compact() {
+        if (recordedCount == 0) {
+            clear();
+            return;
+        }
+        int first = 0;
+        while (!isRecordedIndex(first)) {
+            first++;
+        }
+        int last = length - 1;
+        while (!isRecordedIndex(last)) {
+            last--;
+        }
+        if (first > 0) {
+            int newLength = last - first + 1;
+            System.arraycopy(x, first, x, 0, newLength);
+            System.arraycopy(y, first, y, 0, newLength);
+            System.arraycopy(z, first, z, 0, newLength);
+            System.arraycopy(yaw, first, yaw, 0, newLength);
+            System.arraycopy(pitch, first, pitch, 0, newLength);
+            System.arraycopy(flags, first, flags, 0, newLength);
+            System.arraycopy(worldSlot, first, worldSlot, 0, newLength);
+            baseTick += first;
+        }
+        length = last - first + 1;
+        int source = 0;
+        for (int i = 1; i < length; i++) {
+            if (isRecordedIndex(i)) {
+                source = i;
+            } else {
+                fillFrom(source, i, i + 1);
+            }
+        }
+    }
+
+    private byte worldSlotFor(String worldName) {
+        if (worldName == null) {
+            return 0;
+        }
+        for (int i = 0; i < worldPalette.length; i++) {
+            if (worldPalette[i].equals(worldName)) {
+                return (byte) (i + 1);
+            }
+        }
+        if (worldPalette.length >= 255) {
+            return 0;
+        }
+        worldPalette = Arrays.copyOf(worldPalette, worldPalette.length + 1);
+        worldPalette[worldPalette.length - 1] = worldName;
+        return (byte) worldPalette.length;
+    }
+
+    private void shiftRight(int shift) {
+        System.arraycopy(x, 0, x, shift, length);
+        System.arraycopy(y, 0, y, shift, length);
+        System.arraycopy(z, 0, z, shift, length);
+        System.arraycopy(yaw, 0, yaw, shift, length);
+        System.arraycopy(pitch, 0, pitch, shift, length);
+        System.arraycopy(flags, 0, flags, shift, length);
+        System.arraycopy(worldSlot, 0, worldSlot, shift, length);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= x.length) {
+            return;
+        }
+        resize(Math.max(required, Math.max(INITIAL_CAPACITY, x.length + (x.length >> 1))));
+    }
+
+    private void resize(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        yaw = Arrays.copyOf(yaw, capacity);
+        pitch = Arrays.copyOf(pitch, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        worldSlot = Arrays.copyOf(worldSlot, capacity);
+    }
+}
@@ -114,6 +114,7 @@ public class ActorRecordingService {
         if (recording.task != null) {
             recording.task.cancel();
         }
+        recording.template.getMotion().trimToSize();
         player.getInventory().removeItem(SceneWand.createRecordingWand());
         plugin.getRuntimeEngine().clearRecordingPreview(player);
         player.sendActionBar("");
@@ -171,14 +172,11 @@ public class ActorRecordingService {
         }
         int tick = recording.startTick + recording.relativeTick;
         Location loc = player.getLocation();
-        Transform transform = Transform.fromLocation(loc);
-        recording.template.putTransformTick(new ActorTransformTick(
-                tick,
-                transform,
-                player.isSneaking(),
-                player.isSprinting(),
-                player.isSwimming(),
-                player.isGliding()));
+        recording.template.getMotion().record(tick,
+                loc.getX(), loc.getY(), loc.getZ(), loc.getYaw(), loc.getPitch(),
+                loc.getWorld() != null ? loc.getWorld().getName() : null,
+                ActorMotionBuffer.packFlags(player.isSneaking(), player.isSprinting(),
+                        player.isSwimming(), player.isGliding()));
         int elapsedTicks = recording.relativeTick + 1;
         String durationText = recording.durationTicks > 0
                 ? recording.formatElapsed(elapsedTicks) + "/" + recording.formatLimit()
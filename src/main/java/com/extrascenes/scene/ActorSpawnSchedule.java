@@ -0,0 +1,95 @@
+package com.extrascenes.scene;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Spawn state of one actor compiled from its spawn/despawn tick actions. Actors without any spawn action
+ * start spawned; otherwise they start despawned. A despawn on the same tick as a spawn wins.
+ */
+public final class ActorSpawnSchedule {
+    private final boolean initiallySpawned;
+    private final boolean finallySpawned;
+    private final int horizon;
+    private final BitSet spawnedTicks;
+    private final int[] transitionTicks;
+
+    private ActorSpawnSchedule(boolean initiallySpawned, boolean finallySpawned, int horizon,
+                               BitSet spawnedTicks, int[] transitionTicks) {
+        this.initiallySpawned = initiallySpawned;
+        this.finallySpawned = finallySpawned;
+        this.horizon = horizon;
+        this.spawnedTicks = spawnedTicks;
+        this.transitionTicks = transitionTicks;
+    }
+
+    public static ActorSpawnSchedule compile(SceneActorTemplate template) {
+        if (template == null) {
+            return new ActorSpawnSchedule(false, false, 0, new BitSet(), new int[0]);
+        }
+        boolean hasSpawnAction = false;
+        for (ActorTickAction action : template.getTickActions().values()) {
+            if (action != null && action.isSpawn()) {
+                hasSpawnAction = true;
+                break;
+            }
+        }
+        boolean initial = !hasSpawnAction;
+        boolean state = initial;
+        int[] transitions = new int[4];
+        int transitionCount = 0;
+        BitSet spawned = new BitSet();
+        int intervalStart = 0;
+        for (ActorTickAction action : template.getTickActions().values()) {
+            if (action == null) {
+                continue;
+            }
+            boolean next = state;
+            if (action.isSpawn()) {
+                next = true;
+            }
+            if (action.isDespawn()) {
+                next = false;
+            }
+            if (next == state) {
+                continue;
+            }
+            int tick = action.getTick();
+            if (state && tick > intervalStart) {
+                spawned.set(intervalStart, tick);
+            }
+            if (next) {
+                intervalStart = tick;
+            }
+            if (transitionCount == transitions.length) {
+                transitions = Arrays.copyOf(transitions, transitionCount * 2);
+            }
+            transitions[transitionCount++] = tick;
+            state = next;
+        }
+        int horizon = transitionCount == 0 ? 0 : transitions[transitionCount - 1];
+        return new ActorSpawnSchedule(initial, state, horizon, spawned, Arrays.copyOf(transitions, transitionCount));
+    }
+
+    public boolean isSpawnedAt(int tick) {
+        if (tick >= horizon) {
+            return finallySpawned;
+        }
+        if (tick < 0) {
+            return initiallySpawned;
+        }
+        return spawnedTicks.get(tick);
+    }
+
+    public boolean isTransitionTick(int tick) {
+        return Arrays.binarySearch(transitionTicks, tick) >= 0;
+    }
+
+    public int[] getTransitionTicks() {
+        return transitionTicks.clone();
+    }
+
+    public boolean isInitiallySpawned() {
+        return initiallySpawned;
+    }
+}
@@ -26,7 +26,7 @@ public class ActorTimelineGui implements EditorGui {
             inventory.setItem(i, GuiUtils.makeItem(selected ? Material.GLOWSTONE_DUST : Material.PLAYER_HEAD,
                     actor.getActorId(),
                     List.of(selected ? "Selected actor" : "Click to select actor",
-                            "Transforms: " + actor.getTransformTicks().size(),
+                            "Transforms: " + actor.getMotion().size(),
                             "Actions: " + actor.getTickActions().size())));
         }
 
@@ -32,13 +32,13 @@ public class ActorsListGui implements EditorGui {
         int end = Math.min(actors.size(), start + PAGE_SIZE);
         for (int i = start; i < end; i++) {
             SceneActorTemplate actor = actors.get(i);
-            boolean hasRecording = !actor.getTransformTicks().isEmpty();
+            boolean hasRecording = !actor.getMotion().isEmpty();
             boolean selected = actor.getActorId().equalsIgnoreCase(session.getSelectedActorId());
             inventory.setItem(i - start, GuiUtils.makeItem(
                     selected ? Material.GLOWSTONE_DUST : (hasRecording ? Material.LIME_DYE : Material.GRAY_DYE),
                     actor.getActorId(),
                     List.of(
-                            "Recorded ticks: " + actor.getTransformTicks().size(),
+                            "Recorded ticks: " + actor.getMotion().size(),
                             "Preview: " + (actor.isPreviewEnabled() ? "ON" : "OFF"),
                             "Click for details",
                             selected ? "[SELECTED]" : ""
@@ -0,0 +1,200 @@
+package com.extrascenes.scene;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * A scene looping at a fixed world anchor for whoever is in range. Actor recordings are shifted so the first
+ * recorded pose lands on the anchor. The clock only runs while at least one observer is in range.
+ */
+public class AmbientScene {
+    private final String id;
+    private final String sceneName;
+    private final SceneLocation anchor;
+    private final double radius;
+    private final Map<UUID, Observer> observers = new LinkedHashMap<>();
+    private final Map<String, SessionActorHandle> citizensActors = new HashMap<>();
+    private final Map<String, ActorSpawnSchedule> spawnSchedules = new HashMap<>();
+    private Scene scene;
+    private double offsetX;
+    private double offsetY;
+    private double offsetZ;
+    private int loopTicks;
+    private int timeTicks;
+    private boolean citizensFiltered;
+    private int citizensInterval = 1;
+
+    public AmbientScene(String id, String sceneName, SceneLocation anchor, double radius) {
+        this.id = id;
+        this.sceneName = sceneName;
+        this.anchor = anchor;
+        this.radius = radius;
+    }
+
+    void prepare(Scene scene) {
+        this.scene = scene;
+        this.timeTicks = 0;
+        spawnSchedules.clear();
+        offsetX = 0.0D;
+        offsetY = 0.0D;
+        offsetZ = 0.0D;
+        int lastTick = 0;
+        boolean originFound = false;
+        for (SceneActorTemplate template : scene.getActorTemplates().values()) {
+            spawnSchedules.put(template.getActorId(), ActorSpawnSchedule.compile(template));
+            ActorMotionBuffer motion = template.getMotion();
+            if (motion.isEmpty()) {
+                continue;
+            }
+            lastTick = Math.max(lastTick, motion.getLastTick());
+            if (!originFound) {
+                offsetX = anchor.getX() - motion.getX(0);
+                offsetY = anchor.getY() - motion.getY(0);
+                offsetZ = anchor.getZ() - motion.getZ(0);
+                originFound = true;
+            }
+        }
+        loopTicks = scene.getDurationTicks() > 0 ? scene.getDurationTicks() : lastTick + 1;
+    }
+
+    /**
+     * @return the tick to render, wrapping at the end of the loop
+     */
+    int advance() {
+        int tick = timeTicks;
+        timeTicks = loopTicks <= 0 ? 0 : (timeTicks + 1) % loopTicks;
+        return tick;
+    }
+
+    Location place(ActorMotionBuffer motion, int index, Location reuse) {
+        World world = Bukkit.getWorld(anchor.getWorldName());
+        Location location = reuse == null ? new Location(world, 0.0D, 0.0D, 0.0D) : reuse;
+        location.setWorld(world);
+        location.setX(motion.getX(index) + offsetX);
+        location.setY(motion.getY(index) + offsetY);
+        location.setZ(motion.getZ(index) + offsetZ);
+        location.setYaw(motion.getYaw(index));
+        location.setPitch(motion.getPitch(index));
+        return location;
+    }
+
+    double distanceSquared(Location location) {
+        double dx = location.getX() - anchor.getX();
+        double dy = location.getY() - anchor.getY();
+        double dz = location.getZ() - anchor.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getSceneName() {
+        return sceneName;
+    }
+
+    public SceneLocation getAnchor() {
+        return anchor;
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    public Scene getScene() {
+        return scene;
+    }
+
+    public int getTimeTicks() {
+        return timeTicks;
+    }
+
+    public int getLoopTicks() {
+        return loopTicks;
+    }
+
+    public boolean isObserved() {
+        return !observers.isEmpty();
+    }
+
+    public Set<UUID> getObserverIds() {
+        return Collections.unmodifiableSet(observers.keySet());
+    }
+
+    public Collection<Observer> getObservers() {
+        return Collections.unmodifiableCollection(observers.values());
+    }
+
+    Observer getObserver(UUID playerId) {
+        return observers.get(playerId);
+    }
+
+    Observer addObserver(UUID playerId) {
+        return observers.computeIfAbsent(playerId, Observer::new);
+    }
+
+    Observer removeObserver(UUID playerId) {
+        return observers.remove(playerId);
+    }
+
+    ActorSpawnSchedule getSpawnSchedule(String actorId) {
+        return spawnSchedules.get(actorId);
+    }
+
+    Map<String, SessionActorHandle> getCitizensActors() {
+        return citizensActors;
+    }
+
+    boolean isCitizensFiltered() {
+        return citizensFiltered;
+    }
+
+    void setCitizensFiltered(boolean citizensFiltered) {
+        this.citizensFiltered = citizensFiltered;
+    }
+
+    int getCitizensInterval() {
+        return citizensInterval;
+    }
+
+    void setCitizensInterval(int citizensInterval) {
+        this.citizensInterval = Math.max(1, citizensInterval);
+    }
+
+    /**
+     * One player in range, holding its client-only actors and how often they are updated.
+     */
+    public static final class Observer {
+        private final UUID playerId;
+        private final Map<String, SessionActorHandle> packetActors = new HashMap<>();
+        private int updateInterval = 1;
+
+        private Observer(UUID playerId) {
+            this.playerId = playerId;
+        }
+
+        public UUID getPlayerId() {
+            return playerId;
+        }
+
+        public int getUpdateInterval() {
+            return updateInterval;
+        }
+
+        void setUpdateInterval(int updateInterval) {
+            this.updateInterval = Math.max(1, updateInterval);
+        }
+
+        Map<String, SessionActorHandle> getPacketActors() {
+            return packetActors;
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package com.extrascenes.scene;
+
+import com.extrascenes.CitizensAdapter;
+import com.extrascenes.ExtraScenesPlugin;
+import com.extrascenes.protocol.PacketActor;
+import com.extrascenes.protocol.VirtualEntityPackets;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Plays ambient scenes at fixed world anchors, independent of viewer sessions and cameras. Observers are found
+ * through an area-of-interest grid every {@code ambient.scan-interval} ticks; packet actors are streamed to each
+ * observer while in range, Citizens actors exist only while someone is in range. Observers further than
+ * {@code ambient.near-radius} are updated every {@code ambient.far-interval} ticks.
+ */
+public class AmbientSceneRuntime {
+    private final ExtraScenesPlugin plugin;
+    private final File file;
+    private final Map<String, AmbientScene> ambients = new LinkedHashMap<>();
+    private AreaOfInterestGrid<AmbientScene> grid = new AreaOfInterestGrid<>(32);
+    private BukkitTask task;
+    private long tickCounter;
+    private int scanInterval = 10;
+    private double nearRadius = 24.0D;
+    private int farInterval = 5;
+
+    public AmbientSceneRuntime(ExtraScenesPlugin plugin) {
+        this.plugin = plugin;
+        this.file = new File(plugin.getDataFolder(), "ambient.yml");
+    }
+
+    public void start() {
+        if (task != null) {
+            return;
+        }
+        task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                tick();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (AmbientScene ambient : ambients.values()) {
+            despawn(ambient);
+        }
+    }
+
+    public void reload() {
+        for (AmbientScene ambient : ambients.values()) {
+            despawn(ambient);
+        }
+        ambients.clear();
+        scanInterval = plugin.getSceneConfig().getAmbientScanInterval();
+        nearRadius = plugin.getSceneConfig().getAmbientNearRadius();
+        farInterval = plugin.getSceneConfig().getAmbientFarInterval();
+        if (!file.exists()) {
+            save();
+        }
+        YamlConfiguration yaml = YamlConfiguration.loadConfiguration(file);
+        ConfigurationSection section = yaml.getConfigurationSection("ambient");
+        if (section != null) {
+            for (String id : section.getKeys(false)) {
+                ConfigurationSection node = section.getConfigurationSection(id);
+                if (node == null) {
+                    continue;
+                }
+                String sceneName = node.getString("scene");
+                String worldName = node.getString("world");
+                if (sceneName == null || worldName == null) {
+                    plugin.getLogger().warning("[ambient] skipping " + id + ": scene and world are required");
+                    continue;
+                }
+                SceneLocation anchor = new SceneLocation(worldName, node.getDouble("x"), node.getDouble("y"),
+                        node.getDouble("z"), 0.0F, 0.0F);
+                ambients.put(id.toLowerCase(Locale.ROOT),
+                        new AmbientScene(id.toLowerCase(Locale.ROOT), sceneName, anchor, node.getDouble("radius", 32.0D)));
+            }
+        }
+        rebuildGrid();
+    }
+
+    public void save() {
+        YamlConfiguration yaml = new YamlConfiguration();
+        ConfigurationSection section = yaml.createSection("ambient");
+        for (AmbientScene ambient : ambients.values()) {
+            ConfigurationSection node = section.createSection(ambient.getId());
+            node.set("scene", ambient.getSceneName());
+            node.set("world", ambient.getAnchor().getWorldName());
+            node.set("x", ambient.getAnchor().getX());
+            node.set("y", ambient.getAnchor().getY());
+            node.set("z", ambient.getAnchor().getZ());
+            node.set("radius", ambient.getRadius());
+        }
+        try {
+            yaml.save(file);
+        } catch (IOException ex) {
+            plugin.getLogger().severe("Failed to save ambient.yml: " + ex.getMessage());
+        }
+    }
+
+    public AmbientScene add(String id, String sceneName, Location anchor, double radius) {
+        if (id == null || id.isBlank() || sceneName == null || anchor == null || anchor.getWorld() == null) {
+            return null;
+        }
+        if (plugin.getSceneManager().loadScene(sceneName.toLowerCase(Locale.ROOT)) == null) {
+            return null;
+        }
+        String key = id.toLowerCase(Locale.ROOT);
+        AmbientScene previous = ambients.remove(key);
+        if (previous != null) {
+            despawn(previous);
+        }
+        AmbientScene ambient = new AmbientScene(key, sceneName.toLowerCase(Locale.ROOT),
+                SceneLocation.fromLocation(anchor), radius);
+        ambients.put(key, ambient);
+        save();
+        rebuildGrid();
+        return ambient;
+    }
+
+    public boolean remove(String id) {
+        if (id == null) {
+            return false;
+        }
+        AmbientScene ambient = ambients.remove(id.toLowerCase(Locale.ROOT));
+        if (ambient == null) {
+            return false;
+        }
+        despawn(ambient);
+        save();
+        rebuildGrid();
+        return true;
+    }
+
+    public Collection<AmbientScene> getAmbientScenes() {
+        return Collections.unmodifiableCollection(ambients.values());
+    }
+
+    private void rebuildGrid() {
+        grid = new AreaOfInterestGrid<>(plugin.getSceneConfig().getAmbientCellSize());
+        for (AmbientScene ambient : ambients.values()) {
+            Scene scene = plugin.getSceneManager().loadScene(ambient.getSceneName());
+            if (scene == null) {
+                plugin.getLogger().warning("[ambient] scene not found for " + ambient.getId() + ": " + ambient.getSceneName());
+                continue;
+            }
+            if (ambient.getScene() != scene) {
+                despawn(ambient);
+                ambient.prepare(scene);
+            }
+            SceneLocation anchor = ambient.getAnchor();
+            grid.insert(anchor.getWorldName(), anchor.getX(), anchor.getZ(), ambient.getRadius(), ambient);
+        }
+    }
+
+    private void tick() {
+        tickCounter++;
+        if (tickCounter % scanInterval == 0) {
+            scan();
+        }
+        VirtualEntityPackets packets = plugin.getProtocolAdapter().getVirtualEntityPackets();
+        boolean bundle = packets != null && plugin.getSceneConfig().isPacketBundle();
+        Location reuse = new Location(null, 0.0D, 0.0D, 0.0D);
+        for (AmbientScene ambient : ambients.values()) {
+            if (!ambient.isObserved() || ambient.getScene() == null) {
+                continue;
+            }
+            int time = ambient.advance();
+            for (AmbientScene.Observer observer : ambient.getObservers()) {
+                if (observer.getPacketActors().isEmpty() || tickCounter % observer.getUpdateInterval() != 0) {
+                    continue;
+                }
+                Player player = Bukkit.getPlayer(observer.getPlayerId());
+                if (player == null) {
+                    continue;
+                }
+                if (bundle) {
+                    packets.beginBundle(player);
+                }
+                try {
+                    for (SessionActorHandle handle : observer.getPacketActors().values()) {
+                        renderActor(ambient, handle, time, reuse);
+                    }
+                } finally {
+                    if (bundle) {
+                        packets.flushBundle(player);
+                    }
+                }
+            }
+            if (!ambient.getCitizensActors().isEmpty() && tickCounter % ambient.getCitizensInterval() == 0) {
+                for (SessionActorHandle handle : ambient.getCitizensActors().values()) {
+                    renderActor(ambient, handle, time, reuse);
+                }
+            }
+        }
+    }
+
+    private void renderActor(AmbientScene ambient, SessionActorHandle handle, int time, Location reuse) {
+        SceneActorTemplate template = ambient.getScene().getActorTemplate(handle.getActorId());
+        if (template == null) {
+            return;
+        }
+        SceneRuntimeEngine engine = plugin.getRuntimeEngine();
+        ActorMotionBuffer motion = template.getMotion();
+        int index = motion.indexAt(time);
+        ActorSpawnSchedule schedule = handle.getSpawnSchedule();
+        boolean shouldBeSpawned = index >= 0 && (schedule == null || schedule.isSpawnedAt(time));
+        engine.setActorInvisible(handle, !shouldBeSpawned);
+        if (!shouldBeSpawned) {
+            return;
+        }
+        Location target = ambient.place(motion, index, reuse);
+        boolean gliding = motion.isGliding(index);
+        PacketActor actor = handle.getPacketActor();
+        if (actor != null) {
+            if (handle.shouldApplyPose(target)) {
+                actor.moveTo(target.getX(), target.getY(), target.getZ(), target.getYaw(), target.getPitch());
+            }
+            actor.setSneaking(motion.isSneaking(index));
+            if (handle.shouldApplyGliding(gliding)) {
+                actor.setGliding(gliding);
+            }
+            return;
+        }
+        Entity entity = handle.getEntity();
+        if (entity == null || !entity.isValid()) {
+            return;
+        }
+        if (handle.shouldApplyPose(target)) {
+            entity.teleport(target);
+        }
+        if (entity instanceof LivingEntity living && handle.shouldApplyGliding(gliding)) {
+            living.setGliding(gliding);
+        }
+    }
+
+    private void scan() {
+        Map<AmbientScene, Map<UUID, Integer>> inRange = new HashMap<>();
+        double nearSquared = nearRadius * nearRadius;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (plugin.getSessionManager().getSession(player.getUniqueId()) != null) {
+                continue;
+            }
+            Location location = player.getLocation();
+            for (AmbientScene ambient : grid.query(location.getWorld().getName(), location.getX(), location.getZ())) {
+                double distanceSquared = ambient.distanceSquared(location);
+                if (distanceSquared > ambient.getRadius() * ambient.getRadius()) {
+                    continue;
+                }
+                inRange.computeIfAbsent(ambient, ignored -> new HashMap<>())
+                        .put(player.getUniqueId(), distanceSquared <= nearSquared ? 1 : farInterval);
+            }
+        }
+        for (AmbientScene ambient : ambients.values()) {
+            if (ambient.getScene() == null) {
+                continue;
+            }
+            Map<UUID, Integer> seen = inRange.getOrDefault(ambient, Collections.emptyMap());
+            for (UUID observerId : new ArrayList<>(ambient.getObserverIds())) {
+                if (!seen.containsKey(observerId)) {
+                    leave(ambient, observerId);
+                }
+            }
+            int citizensInterval = farInterval;
+            for (Map.Entry<UUID, Integer> entry : seen.entrySet()) {
+                AmbientScene.Observer observer = ambient.getObserver(entry.getKey());
+                if (observer == null) {
+                    observer = enter(ambient, Bukkit.getPlayer(entry.getKey()));
+                }
+                observer.setUpdateInterval(entry.getValue());
+                citizensInterval = Math.min(citizensInterval, entry.getValue());
+            }
+            ambient.setCitizensInterval(citizensInterval);
+            if (ambient.isObserved() && ambient.getCitizensActors().isEmpty()) {
+                spawnCitizensActors(ambient);
+            } else if (!ambient.isObserved()) {
+                despawnCitizensActors(ambient);
+            }
+            if (!ambient.isCitizensFiltered()) {
+                for (SessionActorHandle handle : ambient.getCitizensActors().values()) {
+                    applyVisibility(ambient, handle.getEntity());
+                }
+            }
+        }
+    }
+
+    private AmbientScene.Observer enter(AmbientScene ambient, Player player) {
+        AmbientScene.Observer observer = ambient.addObserver(player.getUniqueId());
+        VirtualEntityPackets packets = plugin.getProtocolAdapter().getVirtualEntityPackets();
+        if (packets == null) {
+            return observer;
+        }
+        SceneRuntimeEngine engine = plugin.getRuntimeEngine();
+        for (SceneActorTemplate template : ambient.getScene().getActorTemplates().values()) {
+            if (!engine.usesPacketBackend(template) || template.getMotion().isEmpty()) {
+                continue;
+            }
+            PacketActor actor = new PacketActor(packets, player, template.getEntityType());
+            actor.setResyncInterval(plugin.getProtocolAdapter().getPacketResyncInterval());
+            engine.applyPacketActorSkin(actor, template.getSkinTexture(), template.getSkinSignature(), template.getSkinName());
+            SessionActorHandle handle = new SessionActorHandle(template.getActorId(), actor);
+            handle.setSpawnSchedule(ambient.getSpawnSchedule(template.getActorId()));
+            engine.applyActorScale(handle, template.getScale());
+            engine.setActorInvisible(handle, !isShown(handle, template.getMotion(), ambient.getTimeTicks()));
+            int index = Math.max(0, template.getMotion().indexAt(ambient.getTimeTicks()));
+            Location start = ambient.place(template.getMotion(), index, null);
+            actor.spawn(start.getX(), start.getY(), start.getZ(), start.getYaw(), start.getPitch());
+            observer.getPacketActors().put(template.getActorId(), handle);
+        }
+        return observer;
+    }
+
+    private void leave(AmbientScene ambient, UUID observerId) {
+        AmbientScene.Observer observer = ambient.removeObserver(observerId);
+        if (observer == null) {
+            return;
+        }
+        if (Bukkit.getPlayer(observerId) != null) {
+            for (SessionActorHandle handle : observer.getPacketActors().values()) {
+                plugin.getRuntimeEngine().destroyPacketActor(handle.getPacketActor());
+            }
+        }
+        observer.getPacketActors().clear();
+    }
+
+    private void spawnCitizensActors(AmbientScene ambient) {
+        CitizensAdapter citizensAdapter = plugin.getCitizensAdapter();
+        if (citizensAdapter == null || !citizensAdapter.isAvailable()) {
+            return;
+        }
+        SceneRuntimeEngine engine = plugin.getRuntimeEngine();
+        SceneEntityPool pool = plugin.getSessionManager().getEntityPool();
+        boolean filtered = true;
+        for (SceneActorTemplate template : ambient.getScene().getActorTemplates().values()) {
+            if (engine.usesPacketBackend(template) || template.getMotion().isEmpty()) {
+                continue;
+            }
+            int index = Math.max(0, template.getMotion().indexAt(ambient.getTimeTicks()));
+            Location start = ambient.place(template.getMotion(), index, null);
+            Object npc = pool.checkoutNpc(template.getEntityType(), template.getDisplayName(), start);
+            boolean pooled = npc != null;
+            if (!pooled) {
+                npc = citizensAdapter.createNpc(template.getEntityType(), template.getDisplayName());
+            }
+            if (npc == null) {
+                continue;
+            }
+            citizensAdapter.applySkinPersistent(npc, template);
+            boolean npcFiltered = citizensAdapter.applyPlayerFilter(npc, ambient.getObserverIds());
+            filtered &= npcFiltered;
+            if (!pooled) {
+                citizensAdapter.configureNpc(npc);
+                if (!citizensAdapter.spawn(npc, start)) {
+                    citizensAdapter.destroy(npc);
+                    continue;
+                }
+            }
+            Entity entity = citizensAdapter.getEntity(npc);
+            if (entity == null) {
+                if (pooled) {
+                    pool.releaseNpc(npc, null, template.getDisplayName());
+                } else {
+                    citizensAdapter.destroy(npc);
+                }
+                continue;
+            }
+            SessionActorHandle handle = new SessionActorHandle(template.getActorId(), npc, entity);
+            handle.setSpawnSchedule(ambient.getSpawnSchedule(template.getActorId()));
+            engine.setActorInvisible(handle, !isShown(handle, template.getMotion(), ambient.getTimeTicks()));
+            if (pooled && npcFiltered) {
+                pool.revealNpc(entity);
+            }
+            entity.setSilent(true);
+            entity.setInvulnerable(true);
+            entity.setGravity(false);
+            if (entity instanceof LivingEntity livingEntity) {
+                livingEntity.setAI(false);
+            }
+            engine.clearNameplate(handle);
+            engine.applyActorScale(handle, template.getScale());
+            ambient.getCitizensActors().put(template.getActorId(), handle);
+        }
+        ambient.setCitizensFiltered(filtered);
+    }
+
+    private void despawnCitizensActors(AmbientScene ambient) {
+        SceneEntityPool pool = plugin.getSessionManager().getEntityPool();
+        for (SessionActorHandle handle : ambient.getCitizensActors().values()) {
+            SceneActorTemplate template = ambient.getScene().getActorTemplate(handle.getActorId());
+            pool.releaseNpc(handle.getCitizensNpc(), handle.getEntity(), template == null ? null : template.getDisplayName());
+        }
+        ambient.getCitizensActors().clear();
+    }
+
+    /**
+     * Same rule {@link #renderActor} applies, so a freshly spawned actor does not flash before its first render.
+     */
+    private boolean isShown(SessionActorHandle handle, ActorMotionBuffer motion, int time) {
+        ActorSpawnSchedule schedule = handle.getSpawnSchedule();
+        return motion.indexAt(time) >= 0 && (schedule == null || schedule.isSpawnedAt(time));
+    }
+
+    private void applyVisibility(AmbientScene ambient, Entity entity) {
+        if (entity == null) {
+            return;
+        }
+        plugin.getVisibilityController().restrictTo(entity, ambient.getObserverIds());
+    }
+
+    private void despawn(AmbientScene ambient) {
+        for (UUID observerId : new ArrayList<>(ambient.getObserverIds())) {
+            leave(ambient, observerId);
+        }
+        despawnCitizensActors(ambient);
+    }
+}
@@ -0,0 +1,54 @@
+package com.extrascenes.scene;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixed-size cell grid over the XZ plane, per world. A value is inserted into every cell its radius touches so a
+ * lookup only has to read the cell the observer stands in.
+ */
+public class AreaOfInterestGrid<T> {
+    private final int cellSize;
+    private final Map<String, Map<Long, List<T>>> cells = new HashMap<>();
+
+    public AreaOfInterestGrid(int cellSize) {
+        this.cellSize = Math.max(1, cellSize);
+    }
+
+    public void insert(String worldName, double x, double z, double radius, T value) {
+        Map<Long, List<T>> worldCells = cells.computeIfAbsent(worldName, ignored -> new HashMap<>());
+        int minX = cell(x - radius);
+        int maxX = cell(x + radius);
+        int minZ = cell(z - radius);
+        int maxZ = cell(z + radius);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                worldCells.computeIfAbsent(key(cx, cz), ignored -> new ArrayList<>()).add(value);
+            }
+        }
+    }
+
+    public List<T> query(String worldName, double x, double z) {
+        Map<Long, List<T>> worldCells = cells.get(worldName);
+        if (worldCells == null) {
+            return Collections.emptyList();
+        }
+        List<T> values = worldCells.get(key(cell(x), cell(z)));
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    public void clear() {
+        cells.clear();
+    }
+
+    private int cell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
@@ -3,6 +3,7 @@ package com.extrascenes.scene;
 import com.extrascenes.ExtraScenesPlugin;
 import org.bukkit.Location;
 import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Display;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Interaction;
@@ -12,20 +13,38 @@ public final class CameraEntityFactory {
     }
 
     public static Entity spawn(ExtraScenesPlugin plugin, Location location) {
-        String type = plugin.getConfig().getString("camera.camera-entity",
-                plugin.getConfig().getString("camera.entity-type", "armor_stand")).toLowerCase(java.util.Locale.ROOT);
-        Entity entity = switch (type) {
-            case "item_display" -> location.getWorld().spawnEntity(location, EntityType.ITEM_DISPLAY);
-            case "text_display" -> location.getWorld().spawnEntity(location, EntityType.TEXT_DISPLAY);
-            case "interaction" -> location.getWorld().spawnEntity(location, EntityType.INTERACTION);
-            case "armorstand", "armor_stand" -> location.getWorld().spawnEntity(location, EntityType.ARMOR_STAND);
-            default -> location.getWorld().spawnEntity(location, EntityType.ARMOR_STAND);
-        };
+        Entity entity = location.getWorld().spawnEntity(location, resolveEntityType(plugin));
         configure(plugin, entity);
         return entity;
     }
 
-    private static void configure(ExtraScenesPlugin plugin, Entity entity) {
+    public static EntityType resolveEntityType(ExtraScenesPlugin plugin) {
+        return switch (resolveType(plugin)) {
+            case "item_display" -> EntityType.ITEM_DISPLAY;
+            case "text_display" -> EntityType.TEXT_DISPLAY;
+            case "block_display" -> EntityType.BLOCK_DISPLAY;
+            case "interaction" -> EntityType.INTERACTION;
+            default -> EntityType.ARMOR_STAND;
+        };
+    }
+
+    public static boolean isDisplayRig(ExtraScenesPlugin plugin) {
+        String type = resolveType(plugin);
+        return type.equals("item_display") || type.equals("text_display") || type.equals("block_display");
+    }
+
+    /**
+     * @return ticks the client interpolates a display rig between pose updates; 0 disables interpolation
+     */
+    public static int getInterpolationTicks(ExtraScenesPlugin plugin) {
+        return plugin.getSceneConfig().getDisplayInterpolationTicks();
+    }
+
+    private static String resolveType(ExtraScenesPlugin plugin) {
+        return plugin.getSceneConfig().getCameraEntityType();
+    }
+
+    static void configure(ExtraScenesPlugin plugin, Entity entity) {
         entity.setSilent(true);
         entity.setInvulnerable(true);
         entity.setGravity(false);
@@ -33,7 +52,7 @@ public final class CameraEntityFactory {
         entity.setVisibleByDefault(false);
 
         if (entity instanceof ArmorStand armorStand) {
-            boolean invisible = plugin.getConfig().getBoolean("camera.armorstand-invisible", true);
+            boolean invisible = plugin.getSceneConfig().isArmorStandInvisible();
             armorStand.setInvisible(invisible);
             armorStand.setMarker(true);
             armorStand.setBasePlate(false);
@@ -41,6 +60,10 @@ public final class CameraEntityFactory {
             armorStand.setCollidable(false);
             return;
         }
+        if (entity instanceof Display display) {
+            display.setTeleportDuration(getInterpolationTicks(plugin));
+            return;
+        }
         if (entity instanceof Interaction interaction) {
             interaction.setResponsive(false);
             interaction.setInteractionWidth(0.1F);
@@ -0,0 +1,208 @@
+package com.extrascenes.scene;
+
+import java.util.Arrays;
+import org.bukkit.Location;
+
+/**
+ * Immutable per-tick camera frames stored as primitive channels. Consecutive identical frames (static shots)
+ * are collapsed into one run; readers resolve a tick to a run index once and then read the channels by index
+ * without allocating.
+ */
+public final class CameraFrameBuffer {
+    public static final byte FLAG_PLAYER_CAMERA = 1;
+    public static final byte FLAG_ALLOW_PLAYER_LOOK = 1 << 1;
+    public static final CameraFrameBuffer EMPTY = new Builder(0).build();
+
+    private final int frameCount;
+    private final int runCount;
+    private final int[] runStart;
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+    private final float[] yaw;
+    private final float[] pitch;
+    private final int[] segment;
+    private final byte[] flags;
+
+    private CameraFrameBuffer(Builder builder) {
+        this.frameCount = builder.frameCount;
+        this.runCount = builder.runCount;
+        this.runStart = Arrays.copyOf(builder.runStart, runCount);
+        this.x = Arrays.copyOf(builder.x, runCount);
+        this.y = Arrays.copyOf(builder.y, runCount);
+        this.z = Arrays.copyOf(builder.z, runCount);
+        this.yaw = Arrays.copyOf(builder.yaw, runCount);
+        this.pitch = Arrays.copyOf(builder.pitch, runCount);
+        this.segment = Arrays.copyOf(builder.segment, runCount);
+        this.flags = Arrays.copyOf(builder.flags, runCount);
+    }
+
+    public int size() {
+        return frameCount;
+    }
+
+    public boolean isEmpty() {
+        return frameCount == 0;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * @return run index holding the frame for the tick, clamped to the timeline; -1 when the buffer is empty
+     */
+    public int runAt(int tick) {
+        if (frameCount == 0) {
+            return -1;
+        }
+        int frame = Math.min(Math.max(0, tick), frameCount - 1);
+        if (runCount == frameCount) {
+            return frame;
+        }
+        int low = 0;
+        int high = runCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (runStart[mid] <= frame) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    public double getX(int run) {
+        return x[run];
+    }
+
+    public double getY(int run) {
+        return y[run];
+    }
+
+    public double getZ(int run) {
+        return z[run];
+    }
+
+    public float getYaw(int run) {
+        return yaw[run];
+    }
+
+    public float getPitch(int run) {
+        return pitch[run];
+    }
+
+    public int getSegmentIndex(int run) {
+        return segment[run];
+    }
+
+    public boolean isPlayerCamera(int run) {
+        return (flags[run] & FLAG_PLAYER_CAMERA) != 0;
+    }
+
+    public boolean isAllowPlayerLook(int run) {
+        return (flags[run] & FLAG_ALLOW_PLAYER_LOOK) != 0;
+    }
+
+    public byte getFlags(int run) {
+        return flags[run];
+    }
+
+    /**
+     * Copies the frame position and rotation into the location, leaving its world untouched.
+     */
+    public Location applyTo(int run, Location location) {
+        location.setX(x[run]);
+        location.setY(y[run]);
+        location.setZ(z[run]);
+        location.setYaw(yaw[run]);
+        location.setPitch(pitch[run]);
+        return location;
+    }
+
+    public static byte flags(boolean playerCamera, boolean allowPlayerLook) {
+        byte packed = 0;
+        if (playerCamera) {
+            packed |= FLAG_PLAYER_CAMERA;
+        }
+        if (allowPlayerLook) {
+            packed |= FLAG_ALLOW_PLAYER_LOOK;
+        }
+        return packed;
+    }
+
+    public static final class Builder {
+        private int frameCount;
+        private int runCount;
+        private int[] runStart;
+        private double[] x;
+        private double[] y;
+        private double[] z;
+        private float[] yaw;
+        private float[] pitch;
+        private int[] segment;
+        private byte[] flags;
+
+        public Builder(int expectedFrames) {
+            int capacity = Math.max(1, expectedFrames);
+            runStart = new int[capacity];
+            x = new double[capacity];
+            y = new double[capacity];
+            z = new double[capacity];
+            yaw = new float[capacity];
+            pitch = new float[capacity];
+            segment = new int[capacity];
+            flags = new byte[capacity];
+        }
+
+        public Builder append(double px, double py, double pz, float pYaw, float pPitch, int segmentIndex, byte frameFlags) {
+            int last = runCount - 1;
+            if (last >= 0 && x[last] == px && y[last] == py && z[last] == pz
+                    && yaw[last] == pYaw && pitch[last] == pPitch
+                    && segment[last] == segmentIndex && flags[last] == frameFlags) {
+                frameCount++;
+                return this;
+            }
+            if (runCount == runStart.length) {
+                grow();
+            }
+            runStart[runCount] = frameCount;
+            x[runCount] = px;
+            y[runCount] = py;
+            z[runCount] = pz;
+            yaw[runCount] = pYaw;
+            pitch[runCount] = pPitch;
+            segment[runCount] = segmentIndex;
+            flags[runCount] = frameFlags;
+            runCount++;
+            frameCount++;
+            return this;
+        }
+
+        public Builder appendRun(CameraFrameBuffer source, int run) {
+            return append(source.x[run], source.y[run], source.z[run], source.yaw[run], source.pitch[run],
+                    source.segment[run], source.flags[run]);
+        }
+
+        public int size() {
+            return frameCount;
+        }
+
+        public CameraFrameBuffer build() {
+            return new CameraFrameBuffer(this);
+        }
+
+        private void grow() {
+            int capacity = runStart.length + (runStart.length >> 1) + 1;
+            runStart = Arrays.copyOf(runStart, capacity);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            z = Arrays.copyOf(z, capacity);
+            yaw = Arrays.copyOf(yaw, capacity);
+            pitch = Arrays.copyOf(pitch, capacity);
+            segment = Arrays.copyOf(segment, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+        }
+    }
+}
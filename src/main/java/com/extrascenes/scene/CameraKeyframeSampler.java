@@ -0,0 +1,268 @@
+package com.extrascenes.scene;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Camera points of a {@link CutscenePath} sorted into primitive arrays. Lookups by tick are binary searches.
+ * {@link #bake} samples the keyframe-timed camera once per tick with the sub-sampling, spline and look-ahead
+ * of a {@link SmoothingQuality}, so every quality costs the same single frame read during playback.
+ */
+public final class CameraKeyframeSampler {
+    private static final int X = 0;
+    private static final int Y = 1;
+    private static final int Z = 2;
+    private static final int YAW = 3;
+    private static final int PITCH = 4;
+
+    private final int[] pointTicks;
+    private final int[] ticks;
+    private final int[] sourceIndex;
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+    private final float[] yaw;
+    private final float[] pitch;
+    private final SmoothingMode[] modes;
+    private final boolean[] allowPlayerLook;
+    private final Transform[] lookAt;
+
+    private CameraKeyframeSampler(List<CameraKeyframe> sorted, SmoothingMode defaultSmoothing) {
+        pointTicks = new int[sorted.size()];
+        int sampled = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            pointTicks[i] = sorted.get(i).getTimeTicks();
+            if (sorted.get(i).getTransform() != null) {
+                sampled++;
+            }
+        }
+        ticks = new int[sampled];
+        sourceIndex = new int[sampled];
+        x = new double[sampled];
+        y = new double[sampled];
+        z = new double[sampled];
+        yaw = new float[sampled];
+        pitch = new float[sampled];
+        modes = new SmoothingMode[sampled];
+        allowPlayerLook = new boolean[sampled];
+        lookAt = new Transform[sampled];
+        int cursor = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            CameraKeyframe keyframe = sorted.get(i);
+            Transform transform = keyframe.getTransform();
+            if (transform == null) {
+                continue;
+            }
+            ticks[cursor] = keyframe.getTimeTicks();
+            sourceIndex[cursor] = i;
+            x[cursor] = transform.getX();
+            y[cursor] = transform.getY();
+            z[cursor] = transform.getZ();
+            yaw[cursor] = transform.getYaw();
+            pitch[cursor] = transform.getPitch();
+            modes[cursor] = keyframe.getSmoothingMode() == null ? defaultSmoothing : keyframe.getSmoothingMode();
+            allowPlayerLook[cursor] = keyframe.isAllowPlayerLook();
+            LookAtTarget target = keyframe.getLookAt();
+            if (target != null && target.getMode() != LookAtTarget.Mode.NONE) {
+                lookAt[cursor] = target.getPosition();
+            }
+            cursor++;
+        }
+    }
+
+    public static CameraKeyframeSampler compile(CutscenePath path) {
+        List<CameraKeyframe> sorted = new ArrayList<>();
+        SmoothingMode defaultSmoothing = path == null ? SmoothingMode.SMOOTH : path.getDefaultSmoothing();
+        if (path != null) {
+            for (CameraKeyframe keyframe : path.getPoints()) {
+                if (keyframe != null) {
+                    sorted.add(keyframe);
+                }
+            }
+        }
+        sorted.sort(Comparator.comparingInt(CameraKeyframe::getTimeTicks));
+        return new CameraKeyframeSampler(sorted, defaultSmoothing);
+    }
+
+    /**
+     * @return index into the time-sorted camera points of the last point at or before the tick, 0 before the first
+     */
+    public int pointIndexAt(int tick) {
+        int index = lastAtOrBefore(pointTicks, tick);
+        return Math.max(0, index);
+    }
+
+    public CameraFrameBuffer bake(CutscenePath path, SmoothingQuality quality) {
+        if (ticks.length == 0) {
+            return CameraFrameBuffer.EMPTY;
+        }
+        SmoothingQuality resolved = quality == null ? SmoothingQuality.SMOOTH : quality;
+        int subSamples = Math.max(1, resolved.getSubSamples());
+        int target = Math.max(1, path.getDurationTicks());
+        double[] sample = new double[5];
+        double[] ahead = new double[5];
+        CameraFrameBuffer.Builder frames = new CameraFrameBuffer.Builder(Math.min(target, 256));
+        for (int tick = 0; tick < target; tick++) {
+            double sumX = 0.0D;
+            double sumY = 0.0D;
+            double sumZ = 0.0D;
+            float sumYaw = 0.0F;
+            float sumPitch = 0.0F;
+            float firstYaw = 0.0F;
+            for (int i = 0; i < subSamples; i++) {
+                sample(tick + (i / (float) subSamples), resolved, sample, ahead);
+                sumX += sample[X];
+                sumY += sample[Y];
+                sumZ += sample[Z];
+                if (i == 0) {
+                    firstYaw = (float) sample[YAW];
+                    sumYaw += firstYaw;
+                } else {
+                    sumYaw += firstYaw + normalizeAngleDelta((float) sample[YAW] - firstYaw);
+                }
+                sumPitch += (float) sample[PITCH];
+            }
+            int previous = Math.max(0, lastAtOrBefore(ticks, tick));
+            int segment = sourceIndex[previous];
+            frames.append(sumX / subSamples, sumY / subSamples, sumZ / subSamples,
+                    sumYaw / subSamples, sumPitch / subSamples, segment,
+                    CameraFrameBuffer.flags(path.isPlayerCameraSegment(segment), allowPlayerLook[previous]));
+        }
+        return frames.build();
+    }
+
+    private void sample(float time, SmoothingQuality quality, double[] out, double[] ahead) {
+        int previous = Math.max(0, lastAtOrBefore(ticks, time));
+        int next = firstAtOrAfter(time);
+        if (previous == next || modes[previous] == SmoothingMode.INSTANT) {
+            out[X] = x[previous];
+            out[Y] = y[previous];
+            out[Z] = z[previous];
+            out[YAW] = yaw[previous];
+            out[PITCH] = pitch[previous];
+            return;
+        }
+        float t = easedProgress(previous, next, time);
+        position(previous, next, t, quality.isSplinePosition(), out);
+        float sampleYaw = lerpAngle(yaw[previous], yaw[next], t);
+        float samplePitch = lerpAngle(pitch[previous], pitch[next], t);
+
+        Transform target = lookAt[previous];
+        if (target != null) {
+            sampleYaw = dampAngle(sampleYaw, lookYaw(out, target.getX(), target.getZ()), 0.85F);
+            samplePitch = dampAngle(samplePitch, lookPitch(out, target.getX(), target.getY(), target.getZ()), 0.85F);
+        } else if (quality.isLookAhead()) {
+            float aheadTime = time + quality.getLookAheadTicks();
+            int aheadPrevious = Math.max(0, lastAtOrBefore(ticks, aheadTime));
+            int aheadNext = firstAtOrAfter(aheadTime);
+            if (aheadPrevious == aheadNext || modes[aheadPrevious] == SmoothingMode.INSTANT) {
+                ahead[X] = x[aheadPrevious];
+                ahead[Y] = y[aheadPrevious];
+                ahead[Z] = z[aheadPrevious];
+            } else {
+                position(aheadPrevious, aheadNext, easedProgress(aheadPrevious, aheadNext, aheadTime), false, ahead);
+            }
+            double dx = ahead[X] - out[X];
+            double dy = ahead[Y] - out[Y];
+            double dz = ahead[Z] - out[Z];
+            if (dx * dx + dy * dy + dz * dz > 1.0E-8D) {
+                sampleYaw = dampAngle(sampleYaw, lookYaw(out, ahead[X], ahead[Z]), 0.85F);
+                samplePitch = dampAngle(samplePitch, lookPitch(out, ahead[X], ahead[Y], ahead[Z]), 0.85F);
+            }
+        }
+        out[YAW] = sampleYaw;
+        out[PITCH] = Math.max(-89.9F, Math.min(89.9F, samplePitch));
+    }
+
+    private float easedProgress(int previous, int next, float time) {
+        int startTime = ticks[previous];
+        int endTime = Math.max(startTime + 1, ticks[next]);
+        float t = (time - startTime) / (float) (endTime - startTime);
+        t = Math.max(0.0F, Math.min(1.0F, t));
+        return switch (modes[previous]) {
+            case INSTANT -> 0.0F;
+            case LINEAR -> t;
+            case SMOOTH -> t * t * (3.0F - 2.0F * t);
+        };
+    }
+
+    private void position(int previous, int next, float t, boolean spline, double[] out) {
+        if (!spline) {
+            out[X] = x[previous] + (x[next] - x[previous]) * t;
+            out[Y] = y[previous] + (y[next] - y[previous]) * t;
+            out[Z] = z[previous] + (z[next] - z[previous]) * t;
+            return;
+        }
+        int p0 = Math.max(previous - 1, 0);
+        int p3 = Math.min(next + 1, ticks.length - 1);
+        out[X] = catmullRom(x[p0], x[previous], x[next], x[p3], t);
+        out[Y] = catmullRom(y[p0], y[previous], y[next], y[p3], t);
+        out[Z] = catmullRom(z[p0], z[previous], z[next], z[p3], t);
+    }
+
+    private int firstAtOrAfter(float time) {
+        int low = 0;
+        int high = ticks.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ticks[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return Math.min(low, ticks.length - 1);
+    }
+
+    private static int lastAtOrBefore(int[] sortedTicks, float time) {
+        int low = 0;
+        int high = sortedTicks.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedTicks[mid] <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    private static double catmullRom(double p0, double p1, double p2, double p3, double t) {
+        double t2 = t * t;
+        double t3 = t2 * t;
+        return 0.5D * ((2.0D * p1)
+                + (-p0 + p2) * t
+                + (2.0D * p0 - 5.0D * p1 + 4.0D * p2 - p3) * t2
+                + (-p0 + 3.0D * p1 - 3.0D * p2 + p3) * t3);
+    }
+
+    private static float lookYaw(double[] from, double toX, double toZ) {
+        return (float) Math.toDegrees(Math.atan2(-(toX - from[X]), toZ - from[Z]));
+    }
+
+    private static float lookPitch(double[] from, double toX, double toY, double toZ) {
+        double dx = toX - from[X];
+        double dz = toZ - from[Z];
+        return (float) Math.toDegrees(-Math.atan2(toY - from[Y], Math.sqrt(dx * dx + dz * dz)));
+    }
+
+    private static float lerpAngle(float from, float to, float t) {
+        return from + normalizeAngleDelta(to - from) * t;
+    }
+
+    private static float dampAngle(float from, float to, float factor) {
+        return from + normalizeAngleDelta(to - from) * factor;
+    }
+
+    private static float normalizeAngleDelta(float delta) {
+        while (delta > 180.0F) {
+            delta -= 360.0F;
+        }
+        while (delta < -180.0F) {
+            delta += 360.0F;
+        }
+        return delta;
+    }
+}
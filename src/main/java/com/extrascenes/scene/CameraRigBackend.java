@@ -0,0 +1,7 @@
+package com.extrascenes.scene;
+
+public enum CameraRigBackend {
+    AUTO,
+    ENTITY,
+    PACKET
+}
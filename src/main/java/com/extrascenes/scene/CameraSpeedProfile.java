@@ -0,0 +1,6 @@
+package com.extrascenes.scene;
+
+public enum CameraSpeedProfile {
+    EASED,
+    CONSTANT
+}
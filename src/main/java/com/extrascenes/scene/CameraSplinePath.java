@@ -0,0 +1,288 @@
+package com.extrascenes.scene;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Centripetal Catmull-Rom spline through the camera points of a {@link CutscenePath}, parameterized by arc
+ * length. Every segment owns a lookup table of cumulative arc length, so a progress value resolves to a segment
+ * and spline parameter with two binary searches. Segments share playback time by arc length (at least one
+ * {@code step-resolution} each); direct points cut straight to their position.
+ */
+public final class CameraSplinePath {
+    private static final double ALPHA = 0.5D;
+    private static final int MIN_LUT_SAMPLES = 8;
+    private static final int MAX_LUT_SAMPLES = 512;
+
+    private final int pointCount;
+    private final double[] px;
+    private final double[] py;
+    private final double[] pz;
+    private final float[] yaw;
+    private final float[] pitch;
+    private final int[] segmentIndex;
+    private final byte[] segmentFlags;
+    private final SmoothingMode[] segmentMode;
+    private final boolean[] segmentDirect;
+    private final double[] knotIn;
+    private final double[] knotMid;
+    private final double[] knotOut;
+    private final double[] segmentArcLength;
+    private final double[] timeStart;
+    private final int[] lutOffset;
+    private final double[] lutArc;
+    private final int endSegmentIndex;
+    private final byte endFlags;
+    private final double[] scratch = new double[3];
+
+    private CameraSplinePath(CutscenePath path, List<CameraKeyframe> keyframes, int[] sourceIndex) {
+        int count = keyframes.size();
+        int segments = Math.max(0, count - 1);
+        this.pointCount = count;
+        px = new double[count + 2];
+        py = new double[count + 2];
+        pz = new double[count + 2];
+        yaw = new float[count];
+        pitch = new float[count];
+        for (int i = 0; i < count; i++) {
+            Transform transform = keyframes.get(i).getTransform();
+            px[i + 1] = transform.getX();
+            py[i + 1] = transform.getY();
+            pz[i + 1] = transform.getZ();
+            yaw[i] = transform.getYaw();
+            pitch[i] = transform.getPitch();
+        }
+        int last = count;
+        int beforeLast = Math.max(1, count - 1);
+        px[0] = 2.0D * px[1] - px[Math.min(2, last)];
+        py[0] = 2.0D * py[1] - py[Math.min(2, last)];
+        pz[0] = 2.0D * pz[1] - pz[Math.min(2, last)];
+        px[count + 1] = 2.0D * px[last] - px[beforeLast];
+        py[count + 1] = 2.0D * py[last] - py[beforeLast];
+        pz[count + 1] = 2.0D * pz[last] - pz[beforeLast];
+
+        segmentIndex = new int[segments];
+        segmentFlags = new byte[segments];
+        segmentMode = new SmoothingMode[segments];
+        segmentDirect = new boolean[segments];
+        knotIn = new double[segments];
+        knotMid = new double[segments];
+        knotOut = new double[segments];
+        segmentArcLength = new double[segments];
+        timeStart = new double[segments + 1];
+        lutOffset = new int[segments + 1];
+
+        int lutSize = 0;
+        int[] lutSamples = new int[segments];
+        for (int i = 0; i < segments; i++) {
+            CameraKeyframe from = keyframes.get(i);
+            segmentIndex[i] = sourceIndex[i];
+            segmentFlags[i] = CameraFrameBuffer.flags(path.isPlayerCameraSegment(sourceIndex[i]), from.isAllowPlayerLook());
+            segmentMode[i] = from.getSmoothingMode() == null ? path.getDefaultSmoothing() : from.getSmoothingMode();
+            segmentDirect[i] = path.isDirectPoint(sourceIndex[i + 1]);
+            knotIn[i] = knotInterval(i, i + 1);
+            knotMid[i] = knotInterval(i + 1, i + 2);
+            knotOut[i] = knotInterval(i + 2, i + 3);
+            double chord = distance(i + 1, i + 2);
+            lutSamples[i] = segmentDirect[i] ? 2
+                    : Math.min(MAX_LUT_SAMPLES, Math.max(MIN_LUT_SAMPLES, (int) Math.ceil(chord / path.getStepResolution()) + 1));
+            lutOffset[i] = lutSize;
+            lutSize += lutSamples[i];
+        }
+        lutOffset[segments] = lutSize;
+        lutArc = new double[lutSize];
+
+        double time = 0.0D;
+        for (int i = 0; i < segments; i++) {
+            int offset = lutOffset[i];
+            int samples = lutSamples[i];
+            if (segmentDirect[i]) {
+                double chord = distance(i + 1, i + 2);
+                lutArc[offset + 1] = chord;
+                segmentArcLength[i] = chord;
+            } else {
+                evaluate(i, 0.0D);
+                double lastX = scratch[0];
+                double lastY = scratch[1];
+                double lastZ = scratch[2];
+                double arc = 0.0D;
+                for (int j = 1; j < samples; j++) {
+                    evaluate(i, j / (double) (samples - 1));
+                    double dx = scratch[0] - lastX;
+                    double dy = scratch[1] - lastY;
+                    double dz = scratch[2] - lastZ;
+                    arc += Math.sqrt(dx * dx + dy * dy + dz * dz);
+                    lutArc[offset + j] = arc;
+                    lastX = scratch[0];
+                    lastY = scratch[1];
+                    lastZ = scratch[2];
+                }
+                segmentArcLength[i] = arc;
+            }
+            timeStart[i] = time;
+            double weight = segmentDirect[i] ? path.getStepResolution() : Math.max(segmentArcLength[i], path.getStepResolution());
+            time += weight;
+        }
+        timeStart[segments] = time;
+
+        endSegmentIndex = count >= 2 ? sourceIndex[count - 2] : 0;
+        endFlags = CameraFrameBuffer.flags(path.isPlayerCameraSegment(endSegmentIndex),
+                keyframes.get(count - 1).isAllowPlayerLook());
+    }
+
+    /**
+     * @return spline over the camera points that carry a transform, or null when there are none
+     */
+    public static CameraSplinePath compile(CutscenePath path) {
+        if (path == null || path.getPoints().isEmpty()) {
+            return null;
+        }
+        List<CameraKeyframe> sorted = new ArrayList<>(path.getPoints());
+        sorted.sort(Comparator.comparingInt(CameraKeyframe::getTimeTicks));
+        List<CameraKeyframe> keyframes = new ArrayList<>(sorted.size());
+        int[] sourceIndex = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            CameraKeyframe keyframe = sorted.get(i);
+            if (keyframe.getTransform() == null) {
+                continue;
+            }
+            sourceIndex[keyframes.size()] = i;
+            keyframes.add(keyframe);
+        }
+        if (keyframes.isEmpty()) {
+            return null;
+        }
+        return new CameraSplinePath(path, keyframes, sourceIndex);
+    }
+
+    /**
+     * Samples the camera at {@code progress} in [0, 1] of the path's playback time and appends the frame.
+     */
+    public void appendFrame(double progress, CameraSpeedProfile profile, CameraFrameBuffer.Builder out) {
+        int segments = segmentIndex.length;
+        double target = Math.max(0.0D, Math.min(1.0D, progress)) * timeStart[segments];
+        if (segments == 0 || target >= timeStart[segments]) {
+            int lastPoint = pointCount - 1;
+            out.append(px[pointCount], py[pointCount], pz[pointCount], yaw[lastPoint], pitch[lastPoint],
+                    endSegmentIndex, endFlags);
+            return;
+        }
+        int segment = findSegment(target);
+        double span = timeStart[segment + 1] - timeStart[segment];
+        double local = span <= 0.0D ? 1.0D : (target - timeStart[segment]) / span;
+        double eased;
+        if (segmentDirect[segment]) {
+            eased = 1.0D;
+        } else if (segmentMode[segment] == SmoothingMode.INSTANT || profile != CameraSpeedProfile.CONSTANT) {
+            eased = applySmoothing(segmentMode[segment], local);
+        } else {
+            eased = local;
+        }
+
+        if (segmentDirect[segment]) {
+            scratch[0] = px[segment + 2];
+            scratch[1] = py[segment + 2];
+            scratch[2] = pz[segment + 2];
+        } else {
+            evaluate(segment, parameterAtArc(segment, eased * segmentArcLength[segment]));
+        }
+        float segmentYaw = lerpAngle(yaw[segment], yaw[segment + 1], (float) eased);
+        float segmentPitch = (float) (pitch[segment] + (pitch[segment + 1] - pitch[segment]) * eased);
+        out.append(scratch[0], scratch[1], scratch[2], segmentYaw, segmentPitch,
+                segmentIndex[segment], segmentFlags[segment]);
+    }
+
+    private int findSegment(double target) {
+        int low = 0;
+        int high = segmentIndex.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (timeStart[mid] <= target) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private double parameterAtArc(int segment, double arc) {
+        int offset = lutOffset[segment];
+        int samples = lutOffset[segment + 1] - offset;
+        if (arc <= 0.0D) {
+            return 0.0D;
+        }
+        if (arc >= lutArc[offset + samples - 1]) {
+            return 1.0D;
+        }
+        int low = 0;
+        int high = samples - 1;
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (lutArc[offset + mid] <= arc) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        double from = lutArc[offset + low];
+        double to = lutArc[offset + high];
+        double fraction = to > from ? (arc - from) / (to - from) : 0.0D;
+        return (low + fraction) / (samples - 1);
+    }
+
+    private void evaluate(int segment, double u) {
+        double d0 = knotIn[segment];
+        double d1 = knotMid[segment];
+        double d2 = knotOut[segment];
+        double t1 = d0;
+        double t2 = t1 + d1;
+        double t3 = t2 + d2;
+        double t = t1 + d1 * u;
+        int p0 = segment;
+        int p1 = segment + 1;
+        int p2 = segment + 2;
+        int p3 = segment + 3;
+        scratch[0] = barryGoldman(px[p0], px[p1], px[p2], px[p3], t1, t2, t3, t);
+        scratch[1] = barryGoldman(py[p0], py[p1], py[p2], py[p3], t1, t2, t3, t);
+        scratch[2] = barryGoldman(pz[p0], pz[p1], pz[p2], pz[p3], t1, t2, t3, t);
+    }
+
+    private static double barryGoldman(double p0, double p1, double p2, double p3,
+                                       double t1, double t2, double t3, double t) {
+        double a1 = ((t1 - t) * p0 + t * p1) / t1;
+        double a2 = ((t2 - t) * p1 + (t - t1) * p2) / (t2 - t1);
+        double a3 = ((t3 - t) * p2 + (t - t2) * p3) / (t3 - t2);
+        double b1 = ((t2 - t) * a1 + t * a2) / t2;
+        double b2 = ((t3 - t) * a2 + (t - t1) * a3) / (t3 - t1);
+        return ((t2 - t) * b1 + (t - t1) * b2) / (t2 - t1);
+    }
+
+    private double knotInterval(int from, int to) {
+        double interval = Math.pow(distance(from, to), ALPHA);
+        return interval < 1.0E-6D ? 1.0D : interval;
+    }
+
+    private double distance(int from, int to) {
+        double dx = px[to] - px[from];
+        double dy = py[to] - py[from];
+        double dz = pz[to] - pz[from];
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    static double applySmoothing(SmoothingMode mode, double t) {
+        if (mode == null || mode == SmoothingMode.LINEAR) {
+            return t;
+        }
+        if (mode == SmoothingMode.INSTANT) {
+            return t < 1.0D ? 0.0D : 1.0D;
+        }
+        return t * t * (3.0D - 2.0D * t);
+    }
+
+    static float lerpAngle(float from, float to, float t) {
+        float delta = ((to - from + 540.0F) % 360.0F) - 180.0F;
+        return from + delta * t;
+    }
+}
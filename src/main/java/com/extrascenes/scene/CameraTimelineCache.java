@@ -0,0 +1,160 @@
+package com.extrascenes.scene;
+
+import com.extrascenes.ExtraScenesPlugin;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.bukkit.Particle;
+
+/**
+ * Compiled camera paths and timelines shared read-only by every session playing the same scene.
+ * An entry is reused while the scene instance, its camera track revision, its edit revision, the
+ * registry path and the {@code camera.*} settings it was built from are unchanged.
+ */
+public class CameraTimelineCache {
+    private final ExtraScenesPlugin plugin;
+    private final Map<String, CompiledCameraTimeline> entries = new HashMap<>();
+    private long hits;
+    private long misses;
+
+    public CameraTimelineCache(ExtraScenesPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public CompiledCameraTimeline get(Scene scene) {
+        CameraSettings currentSettings = settings();
+        Track<CameraKeyframe> cameraTrack = scene.getTrack(SceneTrackType.CAMERA);
+        int trackRevision = cameraTrack == null ? -1 : cameraTrack.getRevision();
+        CutscenePath stored = plugin.getCutscenePathRegistry() == null
+                ? null
+                : plugin.getCutscenePathRegistry().getPath(scene.getName());
+        String key = scene.getName().toLowerCase(Locale.ROOT);
+        CompiledCameraTimeline cached = entries.get(key);
+        if (cached != null && cached.matches(scene, cameraTrack, trackRevision, stored, currentSettings)) {
+            hits++;
+            return cached;
+        }
+        misses++;
+        CutscenePath path = stored != null ? stored : buildCutscenePath(scene, cameraTrack, currentSettings);
+        CameraKeyframeSampler sampler = CameraKeyframeSampler.compile(path);
+        CameraFrameBuffer frames = currentSettings.timing() == CameraTimingMode.KEYFRAMES
+                ? sampler.bake(path, scene.getSmoothingQuality())
+                : CutsceneTimelineBuilder.build(path, currentSettings.speedProfile());
+        CompiledCameraTimeline compiled = new CompiledCameraTimeline(scene, cameraTrack, trackRevision,
+                scene.getEditRevision(), scene.getDurationTicks(), scene.getDefaultSmoothing(),
+                scene.getSmoothingQuality(), stored, currentSettings, path, sampler, frames);
+        entries.put(key, compiled);
+        return compiled;
+    }
+
+    public void invalidate(String sceneName) {
+        if (sceneName != null) {
+            entries.remove(sceneName.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public void resetStats() {
+        hits = 0L;
+        misses = 0L;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private CameraSettings settings() {
+        return plugin.getSceneConfig().getCameraSettings();
+    }
+
+    private CutscenePath buildCutscenePath(Scene scene, Track<CameraKeyframe> cameraTrack, CameraSettings cameraSettings) {
+        List<CameraKeyframe> points = cameraTrack == null
+                ? Collections.emptyList()
+                : new ArrayList<>(cameraTrack.getKeyframes());
+        int durationTicks = scene.getDurationTicks() <= 0
+                ? Math.max(1, points.stream().mapToInt(CameraKeyframe::getTimeTicks).max().orElse(0) + 1)
+                : scene.getDurationTicks();
+        return new CutscenePath(durationTicks, cameraSettings.stepResolution(), scene.getDefaultSmoothing(), points,
+                cameraSettings.playerSegments(), new LinkedHashSet<>(), cameraSettings.startCommands(),
+                cameraSettings.segmentCommands(), Particle.END_ROD);
+    }
+
+    record CameraSettings(double stepResolution, List<CutscenePath.IntRange> playerSegments,
+                          List<String> startCommands, Map<Integer, List<String>> segmentCommands,
+                          CameraSpeedProfile speedProfile, CameraTimingMode timing) {
+    }
+
+    public static final class CompiledCameraTimeline {
+        private final Scene scene;
+        private final Track<CameraKeyframe> cameraTrack;
+        private final int trackRevision;
+        private final int editRevision;
+        private final int durationTicks;
+        private final SmoothingMode defaultSmoothing;
+        private final SmoothingQuality smoothingQuality;
+        private final CutscenePath storedPath;
+        private final CameraSettings settings;
+        private final CutscenePath path;
+        private final CameraKeyframeSampler sampler;
+        private final CameraFrameBuffer frames;
+
+        private CompiledCameraTimeline(Scene scene, Track<CameraKeyframe> cameraTrack, int trackRevision,
+                                       int editRevision, int durationTicks, SmoothingMode defaultSmoothing,
+                                       SmoothingQuality smoothingQuality, CutscenePath storedPath,
+                                       CameraSettings settings, CutscenePath path,
+                                       CameraKeyframeSampler sampler, CameraFrameBuffer frames) {
+            this.scene = scene;
+            this.cameraTrack = cameraTrack;
+            this.trackRevision = trackRevision;
+            this.editRevision = editRevision;
+            this.durationTicks = durationTicks;
+            this.defaultSmoothing = defaultSmoothing;
+            this.smoothingQuality = smoothingQuality;
+            this.storedPath = storedPath;
+            this.settings = settings;
+            this.path = path;
+            this.sampler = sampler;
+            this.frames = frames;
+        }
+
+        private boolean matches(Scene currentScene, Track<CameraKeyframe> currentTrack, int currentTrackRevision,
+                                CutscenePath currentStoredPath, CameraSettings currentSettings) {
+            return scene == currentScene
+                    && cameraTrack == currentTrack
+                    && trackRevision == currentTrackRevision
+                    && editRevision == currentScene.getEditRevision()
+                    && durationTicks == currentScene.getDurationTicks()
+                    && defaultSmoothing == currentScene.getDefaultSmoothing()
+                    && smoothingQuality == currentScene.getSmoothingQuality()
+                    && storedPath == currentStoredPath
+                    && settings.equals(currentSettings);
+        }
+
+        public CutscenePath getPath() {
+            return path;
+        }
+
+        public CameraKeyframeSampler getSampler() {
+            return sampler;
+        }
+
+        public CameraFrameBuffer getFrames() {
+            return frames;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.extrascenes.scene;
+
+public enum CameraTimingMode {
+    PATH,
+    KEYFRAMES
+}
@@ -20,7 +20,7 @@ import org.bukkit.configuration.file.YamlConfiguration;
 public class CutscenePathRegistry {
     private final ExtraScenesPlugin plugin;
     private final File file;
-    private final Map<String, CutscenePath> paths = new LinkedHashMap<>();
+    private volatile Map<String, CutscenePath> paths = Collections.emptyMap();
 
     public CutscenePathRegistry(ExtraScenesPlugin plugin) {
         this.plugin = plugin;
@@ -33,9 +33,10 @@ public class CutscenePathRegistry {
             return;
         }
         YamlConfiguration yaml = YamlConfiguration.loadConfiguration(file);
-        paths.clear();
+        Map<String, CutscenePath> loaded = new LinkedHashMap<>();
         ConfigurationSection section = yaml.getConfigurationSection("paths");
         if (section == null) {
+            paths = Collections.emptyMap();
             return;
         }
         for (String id : section.getKeys(false)) {
@@ -45,9 +46,10 @@ public class CutscenePathRegistry {
             }
             CutscenePath path = readPath(node);
             if (path != null) {
-                paths.put(id.toLowerCase(Locale.ROOT), path);
+                loaded.put(id.toLowerCase(Locale.ROOT), path);
             }
         }
+        paths = Collections.unmodifiableMap(loaded);
     }
 
     public void save() {
@@ -71,14 +73,16 @@ public class CutscenePathRegistry {
     }
 
     public Collection<String> getIds() {
-        return Collections.unmodifiableCollection(paths.keySet());
+        return paths.keySet();
     }
 
     public void putPath(String id, CutscenePath path) {
         if (id == null || id.isBlank() || path == null) {
             return;
         }
-        paths.put(id.toLowerCase(Locale.ROOT), path);
+        Map<String, CutscenePath> updated = new LinkedHashMap<>(paths);
+        updated.put(id.toLowerCase(Locale.ROOT), path);
+        paths = Collections.unmodifiableMap(updated);
         save();
     }
 
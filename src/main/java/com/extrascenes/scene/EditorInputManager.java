@@ -881,8 +881,9 @@ public class EditorInputManager {
         renamed.setSkinCacheKey(source.getSkinCacheKey());
         renamed.setScale(source.getScale());
         renamed.setPlaybackMode(source.getPlaybackMode());
+        renamed.setBackend(source.getBackend());
         renamed.setPreviewEnabled(source.isPreviewEnabled());
-        renamed.getTransformTicks().putAll(source.getTransformTicks());
+        renamed.getMotion().copyFrom(source.getMotion());
         renamed.getTickActions().putAll(source.getTickActions());
         return renamed;
     }
@@ -62,7 +62,7 @@ public class GroupGridGui implements EditorGui {
 
     private boolean hasActorAction(Scene scene, int tick) {
         for (SceneActorTemplate actor : scene.getActorTemplates().values()) {
-            if (actor.getTransformTick(tick) != null) {
+            if (actor.getMotion().isRecorded(tick)) {
                 return true;
             }
         }
@@ -81,7 +81,7 @@ public class GroupGridGui implements EditorGui {
     private org.bukkit.inventory.ItemStack buildActorItem(Scene scene, int tick) {
         int count = 0;
         for (SceneActorTemplate actor : scene.getActorTemplates().values()) {
-            if (actor.getTransformTick(tick) != null) {
+            if (actor.getMotion().isRecorded(tick)) {
                 count++;
             }
         }
@@ -184,7 +184,7 @@ public class GroupGridGui implements EditorGui {
         }
         if (row == 3) {
             for (SceneActorTemplate actor : scene.getActorTemplates().values()) {
-                actor.getTransformTicks().remove(tick);
+                actor.getMotion().remove(tick);
             }
             return;
         }
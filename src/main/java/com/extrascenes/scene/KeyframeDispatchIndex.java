@@ -0,0 +1,108 @@
+package com.extrascenes.scene;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable tick to keyframes lookup compiled from a scene's tracks. Keyframes due on the same tick keep
+ * track order, then keyframe order, so dispatch matches the old full scan. The index remembers the track
+ * instances and revisions it was built from and is rebuilt by {@link Scene} once any of them change.
+ */
+public final class KeyframeDispatchIndex {
+    private static final Keyframe[] NONE = new Keyframe[0];
+    private static final SceneTrackType[] TRACK_TYPES = SceneTrackType.values();
+
+    private final Keyframe[][] byTick;
+    private final Track<?>[] sourceTracks;
+    private final int[] sourceRevisions;
+    private final int keyframeCount;
+
+    private KeyframeDispatchIndex(Keyframe[][] byTick, Track<?>[] sourceTracks, int[] sourceRevisions, int keyframeCount) {
+        this.byTick = byTick;
+        this.sourceTracks = sourceTracks;
+        this.sourceRevisions = sourceRevisions;
+        this.keyframeCount = keyframeCount;
+    }
+
+    public static KeyframeDispatchIndex compile(Map<SceneTrackType, Track<? extends Keyframe>> tracks) {
+        Track<?>[] sourceTracks = new Track<?>[TRACK_TYPES.length];
+        int[] sourceRevisions = new int[TRACK_TYPES.length];
+        int maxTick = -1;
+        int count = 0;
+        for (SceneTrackType type : TRACK_TYPES) {
+            Track<? extends Keyframe> track = tracks.get(type);
+            if (track == null) {
+                continue;
+            }
+            sourceTracks[type.ordinal()] = track;
+            sourceRevisions[type.ordinal()] = track.getRevision();
+            for (Keyframe keyframe : track.getKeyframes()) {
+                maxTick = Math.max(maxTick, keyframe.getTimeTicks());
+            }
+        }
+
+        List<List<Keyframe>> buckets = new ArrayList<>(maxTick + 1);
+        for (int i = 0; i <= maxTick; i++) {
+            buckets.add(null);
+        }
+        for (SceneTrackType type : TRACK_TYPES) {
+            Track<?> track = sourceTracks[type.ordinal()];
+            if (track == null) {
+                continue;
+            }
+            for (Keyframe keyframe : track.getKeyframes()) {
+                int tick = keyframe.getTimeTicks();
+                if (tick < 0) {
+                    continue;
+                }
+                List<Keyframe> bucket = buckets.get(tick);
+                if (bucket == null) {
+                    bucket = new ArrayList<>(2);
+                    buckets.set(tick, bucket);
+                }
+                bucket.add(keyframe);
+                count++;
+            }
+        }
+
+        Keyframe[][] byTick = new Keyframe[maxTick + 1][];
+        for (int i = 0; i <= maxTick; i++) {
+            List<Keyframe> bucket = buckets.get(i);
+            byTick[i] = bucket == null ? NONE : bucket.toArray(NONE);
+        }
+        return new KeyframeDispatchIndex(byTick, sourceTracks, sourceRevisions, count);
+    }
+
+    public boolean isCurrent(Map<SceneTrackType, Track<? extends Keyframe>> tracks) {
+        for (SceneTrackType type : TRACK_TYPES) {
+            Track<? extends Keyframe> track = tracks.get(type);
+            Track<?> source = sourceTracks[type.ordinal()];
+            if (track != source) {
+                return false;
+            }
+            if (track != null && track.getRevision() != sourceRevisions[type.ordinal()]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return keyframes due on the tick; the returned array is shared and must not be modified
+     */
+    public Keyframe[] getDue(int tick) {
+        if (tick < 0 || tick >= byTick.length) {
+            return NONE;
+        }
+        return byTick[tick];
+    }
+
+    public int getKeyframeCount() {
+        return keyframeCount;
+    }
+
+    public int getLastTick() {
+        return byTick.length - 1;
+    }
+}
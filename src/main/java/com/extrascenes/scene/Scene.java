@@ -20,6 +20,8 @@ public class Scene {
     private EndTeleportMode endTeleportMode;
     private SceneLocation endLocation;
     private boolean dirty;
+    private int editRevision;
+    private KeyframeDispatchIndex dispatchIndex;
 
     public Scene(String sceneId, String name, int durationTicks, int formatVersion, Map<SceneTrackType, Track<? extends Keyframe>> tracks) {
         this.sceneId = sceneId == null || sceneId.isBlank() ? java.util.UUID.randomUUID().toString() : sceneId;
@@ -77,6 +79,15 @@ public class Scene {
         return (Track<T>) tracks.get(type);
     }
 
+    public KeyframeDispatchIndex getKeyframeDispatchIndex() {
+        KeyframeDispatchIndex index = dispatchIndex;
+        if (index == null || !index.isCurrent(tracks)) {
+            index = KeyframeDispatchIndex.compile(tracks);
+            dispatchIndex = index;
+        }
+        return index;
+    }
+
     public SceneTimeline getTimeline() {
         return timeline;
     }
@@ -184,5 +195,12 @@ public class Scene {
 
     public void setDirty(boolean dirty) {
         this.dirty = dirty;
+        if (dirty) {
+            editRevision++;
+        }
+    }
+
+    public int getEditRevision() {
+        return editRevision;
     }
 }
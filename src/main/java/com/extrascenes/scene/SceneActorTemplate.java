@@ -14,8 +14,9 @@ public class SceneActorTemplate {
     private String skinCacheKey;
     private double scale;
     private ActorPlaybackMode playbackMode;
+    private ActorBackend backend;
     private boolean previewEnabled;
-    private final Map<Integer, ActorTransformTick> transformTicks;
+    private final ActorMotionBuffer motion;
     private final Map<Integer, ActorTickAction> tickActions;
 
     public SceneActorTemplate(String actorId) {
@@ -23,8 +24,9 @@ public class SceneActorTemplate {
         this.entityType = EntityType.PLAYER;
         this.scale = 1.0D;
         this.playbackMode = ActorPlaybackMode.EXACT;
+        this.backend = ActorBackend.DEFAULT;
         this.previewEnabled = true;
-        this.transformTicks = new TreeMap<>();
+        this.motion = new ActorMotionBuffer();
         this.tickActions = new TreeMap<>();
     }
 
@@ -72,8 +74,16 @@ public class SceneActorTemplate {
         this.playbackMode = playbackMode == null ? ActorPlaybackMode.EXACT : playbackMode;
     }
 
-    public Map<Integer, ActorTransformTick> getTransformTicks() {
-        return transformTicks;
+    public ActorBackend getBackend() {
+        return backend;
+    }
+
+    public void setBackend(ActorBackend backend) {
+        this.backend = backend == null ? ActorBackend.DEFAULT : backend;
+    }
+
+    public ActorMotionBuffer getMotion() {
+        return motion;
     }
 
     public String getSkinSignature() {
@@ -110,12 +120,16 @@ public class SceneActorTemplate {
 
     public void putTransformTick(ActorTransformTick tick) {
         if (tick != null) {
-            transformTicks.put(tick.getTick(), tick);
+            motion.record(tick.getTick(), tick.getTransform(), ActorMotionBuffer.packFlags(
+                    tick.isSneaking(), tick.isSprinting(), tick.isSwimming(), tick.isGliding()));
         }
     }
 
     public ActorTransformTick getTransformTick(int tick) {
-        return transformTicks.get(tick);
+        if (!motion.isRecorded(tick)) {
+            return null;
+        }
+        return motion.toTransformTick(motion.indexAt(tick));
     }
 
     public Map<Integer, ActorTickAction> getTickActions() {
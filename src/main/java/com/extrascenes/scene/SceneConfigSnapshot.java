@@ -0,0 +1,317 @@
+package com.extrascenes.scene;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Typed, immutable view of {@code config.yml}. Built once on enable and on every reload, then swapped as a whole,
+ * so hot paths read plain fields instead of looking up YAML paths. Values are clamped and enums parsed here;
+ * unknown enum names are reported once at load.
+ */
+public final class SceneConfigSnapshot {
+    private final int packetResyncInterval;
+    private final boolean packetBundle;
+    private final boolean isolateViewers;
+    private final double isolationRadius;
+    private final int isolationRefreshTicks;
+    private final boolean movementLock;
+    private final boolean blockInventoryDuringScene;
+    private final boolean freezePlayer;
+    private final boolean allowGlobalCommandsDefault;
+    private final SmoothingMode defaultSmoothing;
+    private final SmoothingQuality smoothingQuality;
+    private final boolean hideOthers;
+    private final boolean cameraFakeEquip;
+    private final double cameraFakeHelmetMovementSpeed;
+    private final boolean cutsceneFakeEquip;
+    private final double cutsceneFakeHelmetMovementSpeed;
+    private final CameraRigBackend cameraBackend;
+    private final CameraRigMode rigMode;
+    private final int zoomSlownessAmplifier;
+    private final int zoomSlownessDurationTicks;
+    private final boolean zoomEnabled;
+    private final int zoomEffectAmplifier;
+    private final CameraTimelineCache.CameraSettings cameraSettings;
+    private final int displayInterpolationTicks;
+    private final String cameraEntityType;
+    private final boolean armorStandInvisible;
+    private final ActorBackend actorBackend;
+    private final int poolMaxNpcs;
+    private final int poolMaxRigs;
+    private final int poolIdleTicks;
+    private final int ambientCellSize;
+    private final int ambientScanInterval;
+    private final double ambientNearRadius;
+    private final int ambientFarInterval;
+
+    private SceneConfigSnapshot(ConfigurationSection config, Logger logger) {
+        packetResyncInterval = Math.max(0, config.getInt("packets.resync-interval", 100));
+        packetBundle = config.getBoolean("packets.bundle", true);
+        isolateViewers = config.getBoolean("packets.isolate-viewers", false);
+        isolationRadius = config.getDouble("packets.isolation-radius", 128.0D);
+        isolationRefreshTicks = config.getInt("packets.isolation-refresh-ticks", 20);
+        movementLock = config.getBoolean("locks.movement", true);
+        blockInventoryDuringScene = config.getBoolean("player.blockInventoryDuringScene", true);
+        freezePlayer = config.getBoolean("player.freeze", true);
+        allowGlobalCommandsDefault = config.getBoolean("commands.allowGlobalDefault", false);
+        defaultSmoothing = parseExact(SmoothingMode.class, config.getString("smoothing.default", "SMOOTH"),
+                SmoothingMode.SMOOTH);
+        smoothingQuality = parseExact(SmoothingQuality.class, config.getString("smoothing.quality", "SMOOTH"),
+                SmoothingQuality.SMOOTH);
+        hideOthers = config.getBoolean("camera.hide-others", true);
+        cameraFakeEquip = config.getBoolean("camera.fake-equip", true);
+        cameraFakeHelmetMovementSpeed = config.getDouble("camera.fake-helmet-movement-speed", 10.0D);
+        cutsceneFakeEquip = config.isSet("cutscene.fake-equip")
+                ? config.getBoolean("cutscene.fake-equip", true) : cameraFakeEquip;
+        cutsceneFakeHelmetMovementSpeed = config.isSet("cutscene.fake-helmet-movement-speed")
+                ? config.getDouble("cutscene.fake-helmet-movement-speed", 10.0D) : cameraFakeHelmetMovementSpeed;
+        cameraBackend = parse(CameraRigBackend.class, config.getString("camera.backend", "AUTO"),
+                CameraRigBackend.AUTO, "camera.backend", logger);
+        rigMode = parse(CameraRigMode.class, config.getString("rig.mode", "MOVING"),
+                CameraRigMode.MOVING, "rig.mode", logger);
+        zoomSlownessAmplifier = Math.max(0, config.getInt("camera.zoom-slowness-amplifier", 3));
+        zoomSlownessDurationTicks = Math.max(40, config.getInt("camera.zoom-slowness-duration-ticks", 1200));
+        zoomEnabled = config.getBoolean("camera.zoom.enabled", true);
+        zoomEffectAmplifier = Math.max(0, config.getInt("camera.zoom.slowness-level", 6) - 1);
+        cameraSettings = readCameraSettings(config, logger);
+        displayInterpolationTicks = Math.max(0, Math.min(59, config.getInt("camera.display.interpolation-ticks", 3)));
+        cameraEntityType = config.getString("camera.camera-entity", config.getString("camera.entity-type", "armor_stand"))
+                .toLowerCase(Locale.ROOT);
+        armorStandInvisible = config.getBoolean("camera.armorstand-invisible", true);
+        String rawActorBackend = config.getString("actors.backend", "CITIZENS");
+        ActorBackend parsedActorBackend = parse(ActorBackend.class, rawActorBackend, ActorBackend.CITIZENS,
+                "actors.backend", logger);
+        actorBackend = parsedActorBackend == ActorBackend.DEFAULT ? ActorBackend.CITIZENS : parsedActorBackend;
+        poolMaxNpcs = config.getInt("pools.max-npcs", 16);
+        poolMaxRigs = config.getInt("pools.max-rigs", 8);
+        poolIdleTicks = config.getInt("pools.idle-ticks", 1200);
+        ambientCellSize = config.getInt("ambient.cell-size", 32);
+        ambientScanInterval = Math.max(1, config.getInt("ambient.scan-interval", 10));
+        ambientNearRadius = Math.max(0.0D, config.getDouble("ambient.near-radius", 24.0D));
+        ambientFarInterval = Math.max(1, config.getInt("ambient.far-interval", 5));
+    }
+
+    public static SceneConfigSnapshot load(ConfigurationSection config, Logger logger) {
+        return new SceneConfigSnapshot(config, logger);
+    }
+
+    private static CameraTimelineCache.CameraSettings readCameraSettings(ConfigurationSection config, Logger logger) {
+        double stepResolution = config.getDouble("camera.step-resolution", 0.35D);
+        String rawSegments = config.getString("camera.player-segments", "");
+        List<CutscenePath.IntRange> segments = new ArrayList<>();
+        if (rawSegments != null && !rawSegments.isBlank()) {
+            for (String token : rawSegments.split(",")) {
+                String value = token.trim();
+                if (value.isBlank()) {
+                    continue;
+                }
+                if (value.contains("-")) {
+                    String[] split = value.split("-");
+                    if (split.length == 2) {
+                        try {
+                            int start = Integer.parseInt(split[0].trim());
+                            int end = Integer.parseInt(split[1].trim());
+                            segments.add(new CutscenePath.IntRange(Math.min(start, end), Math.max(start, end)));
+                        } catch (NumberFormatException ignored) {
+                        }
+                    }
+                } else {
+                    try {
+                        int index = Integer.parseInt(value);
+                        segments.add(new CutscenePath.IntRange(index, index));
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+            }
+        }
+        List<String> startCommands = config.getStringList("camera.start-commands");
+        Map<Integer, List<String>> segmentCommands = new LinkedHashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("camera.segment-commands");
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                try {
+                    int segment = Integer.parseInt(key.trim());
+                    segmentCommands.put(segment, List.copyOf(section.getStringList(key)));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+        CameraSpeedProfile speedProfile = parse(CameraSpeedProfile.class, config.getString("camera.speed-profile", "EASED"),
+                CameraSpeedProfile.EASED, "camera.speed-profile", logger);
+        CameraTimingMode timing = parse(CameraTimingMode.class, config.getString("camera.timing", "PATH"),
+                CameraTimingMode.PATH, "camera.timing", logger);
+        return new CameraTimelineCache.CameraSettings(stepResolution, List.copyOf(segments), List.copyOf(startCommands),
+                Collections.unmodifiableMap(segmentCommands), speedProfile, timing);
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, E fallback, String path, Logger logger) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            logger.warning("Unknown " + path + " '" + value + "', using " + fallback.name() + ".");
+            return fallback;
+        }
+    }
+
+    private static <E extends Enum<E>> E parseExact(Class<E> type, String value, E fallback) {
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException ex) {
+            return fallback;
+        }
+    }
+
+    public int getPacketResyncInterval() {
+        return packetResyncInterval;
+    }
+
+    public boolean isPacketBundle() {
+        return packetBundle;
+    }
+
+    public boolean isIsolateViewers() {
+        return isolateViewers;
+    }
+
+    public double getIsolationRadius() {
+        return isolationRadius;
+    }
+
+    public int getIsolationRefreshTicks() {
+        return isolationRefreshTicks;
+    }
+
+    public boolean isMovementLock() {
+        return movementLock;
+    }
+
+    public boolean isBlockInventoryDuringScene() {
+        return blockInventoryDuringScene;
+    }
+
+    public boolean isFreezePlayer() {
+        return freezePlayer;
+    }
+
+    public boolean isAllowGlobalCommandsDefault() {
+        return allowGlobalCommandsDefault;
+    }
+
+    public SmoothingMode getDefaultSmoothing() {
+        return defaultSmoothing;
+    }
+
+    public SmoothingQuality getSmoothingQuality() {
+        return smoothingQuality;
+    }
+
+    public boolean isHideOthers() {
+        return hideOthers;
+    }
+
+    public boolean isCameraFakeEquip() {
+        return cameraFakeEquip;
+    }
+
+    public double getCameraFakeHelmetMovementSpeed() {
+        return cameraFakeHelmetMovementSpeed;
+    }
+
+    /**
+     * @return {@code cutscene.fake-equip} when set, otherwise {@code camera.fake-equip}
+     */
+    public boolean isCutsceneFakeEquip() {
+        return cutsceneFakeEquip;
+    }
+
+    public double getCutsceneFakeHelmetMovementSpeed() {
+        return cutsceneFakeHelmetMovementSpeed;
+    }
+
+    public CameraRigBackend getCameraBackend() {
+        return cameraBackend;
+    }
+
+    public CameraRigMode getRigMode() {
+        return rigMode;
+    }
+
+    public int getZoomSlownessAmplifier() {
+        return zoomSlownessAmplifier;
+    }
+
+    public int getZoomSlownessDurationTicks() {
+        return zoomSlownessDurationTicks;
+    }
+
+    public boolean isZoomEnabled() {
+        return zoomEnabled;
+    }
+
+    public int getZoomEffectAmplifier() {
+        return zoomEffectAmplifier;
+    }
+
+    CameraTimelineCache.CameraSettings getCameraSettings() {
+        return cameraSettings;
+    }
+
+    public int getDisplayInterpolationTicks() {
+        return displayInterpolationTicks;
+    }
+
+    public String getCameraEntityType() {
+        return cameraEntityType;
+    }
+
+    public boolean isArmorStandInvisible() {
+        return armorStandInvisible;
+    }
+
+    /**
+     * @return the backend for actors left on {@link ActorBackend#DEFAULT}, never DEFAULT itself
+     */
+    public ActorBackend getActorBackend() {
+        return actorBackend;
+    }
+
+    public int getPoolMaxNpcs() {
+        return poolMaxNpcs;
+    }
+
+    public int getPoolMaxRigs() {
+        return poolMaxRigs;
+    }
+
+    public int getPoolIdleTicks() {
+        return poolIdleTicks;
+    }
+
+    public int getAmbientCellSize() {
+        return ambientCellSize;
+    }
+
+    public int getAmbientScanInterval() {
+        return ambientScanInterval;
+    }
+
+    public double getAmbientNearRadius() {
+        return ambientNearRadius;
+    }
+
+    public int getAmbientFarInterval() {
+        return ambientFarInterval;
+    }
+}
@@ -425,6 +425,12 @@ public class SceneDeserializer {
                 } catch (IllegalArgumentException ignored) {
                 }
             }
+            if (obj.has("backend")) {
+                try {
+                    template.setBackend(ActorBackend.valueOf(obj.get("backend").getAsString()));
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
             if (obj.has("movement") && obj.get("movement").isJsonArray()) {
                 for (JsonElement tickElement : obj.getAsJsonArray("movement")) {
                     if (!tickElement.isJsonObject()) {
@@ -432,15 +438,16 @@ public class SceneDeserializer {
                     }
                     JsonObject tickObj = tickElement.getAsJsonObject();
                     int tick = tickObj.has("tick") ? tickObj.get("tick").getAsInt() : 0;
-                    template.putTransformTick(new ActorTransformTick(
+                    template.getMotion().record(
                             tick,
                             deserializeTransform(tickObj.get("transform")),
-                            tickObj.has("sneaking") && tickObj.get("sneaking").getAsBoolean(),
-                            tickObj.has("sprinting") && tickObj.get("sprinting").getAsBoolean(),
-                            tickObj.has("swimming") && tickObj.get("swimming").getAsBoolean(),
-                            tickObj.has("gliding") && tickObj.get("gliding").getAsBoolean()
-                    ));
+                            ActorMotionBuffer.packFlags(
+                                    tickObj.has("sneaking") && tickObj.get("sneaking").getAsBoolean(),
+                                    tickObj.has("sprinting") && tickObj.get("sprinting").getAsBoolean(),
+                                    tickObj.has("swimming") && tickObj.get("swimming").getAsBoolean(),
+                                    tickObj.has("gliding") && tickObj.get("gliding").getAsBoolean()));
                 }
+                template.getMotion().trimToSize();
             }
             if (obj.has("actions") && obj.get("actions").isJsonArray()) {
                 for (JsonElement actionElement : obj.getAsJsonArray("actions")) {
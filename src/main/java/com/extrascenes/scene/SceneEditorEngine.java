@@ -187,8 +187,7 @@ public class SceneEditorEngine {
             return;
         }
         if (slot == 52) {
-            plugin.reloadConfig();
-            sceneManager.reloadAll();
+            plugin.reloadSceneConfig();
             openMainMenu(player);
         }
     }
@@ -0,0 +1,303 @@
+package com.extrascenes.scene;
+
+import com.extrascenes.CitizensAdapter;
+import com.extrascenes.ExtraScenesPlugin;
+import com.extrascenes.visibility.SceneVisibilityController;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Parks Citizens actor NPCs and entity camera rigs between sessions instead of destroying them. Parked entities
+ * stay spawned but hidden from every player; checkout moves one into place and resets its name, visibility and
+ * invisibility, the caller re-applies skin, scale and the player filter. Each pool holds at most
+ * {@code pools.max-npcs} / {@code pools.max-rigs} entries and entries parked longer than {@code pools.idle-ticks}
+ * are destroyed.
+ */
+public class SceneEntityPool {
+    private static final long EVICTION_PERIOD_TICKS = 20L;
+
+    private final ExtraScenesPlugin plugin;
+    private final CitizensAdapter citizensAdapter;
+    private final SceneVisibilityController visibilityController;
+    private final List<Parked> npcs = new ArrayList<>();
+    private final List<Parked> rigs = new ArrayList<>();
+    private BukkitTask evictionTask;
+    private long npcHits;
+    private long npcMisses;
+    private long rigHits;
+    private long rigMisses;
+    private long evictions;
+
+    public SceneEntityPool(ExtraScenesPlugin plugin, CitizensAdapter citizensAdapter,
+                           SceneVisibilityController visibilityController) {
+        this.plugin = plugin;
+        this.citizensAdapter = citizensAdapter;
+        this.visibilityController = visibilityController;
+    }
+
+    public void start() {
+        if (evictionTask != null) {
+            return;
+        }
+        evictionTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                evictIdle();
+            }
+        }.runTaskTimer(plugin, EVICTION_PERIOD_TICKS, EVICTION_PERIOD_TICKS);
+    }
+
+    public void stop() {
+        if (evictionTask != null) {
+            evictionTask.cancel();
+            evictionTask = null;
+        }
+        if (!citizensAdapter.isSceneRegistryIsolated()) {
+            for (Parked parked : npcs) {
+                destroyNpc(parked.npc, parked.entity);
+            }
+        }
+        for (Parked parked : rigs) {
+            removeEntity(parked.entity);
+        }
+        npcs.clear();
+        rigs.clear();
+    }
+
+    /**
+     * @return a parked NPC of the type moved to the location, or null when the caller has to create one. The NPC
+     * stays hidden from everyone until the caller scopes it or calls {@link #revealNpc} after filtering it.
+     */
+    public Object checkoutNpc(EntityType type, String displayName, Location location) {
+        if (!citizensAdapter.isAvailable() || type == null || location == null || location.getWorld() == null) {
+            return null;
+        }
+        Parked match = null;
+        for (Iterator<Parked> iterator = npcs.iterator(); iterator.hasNext(); ) {
+            Parked parked = iterator.next();
+            if (parked.entity == null || !parked.entity.isValid()) {
+                iterator.remove();
+                destroyNpc(parked.npc, parked.entity);
+                continue;
+            }
+            if (parked.entity.getType() != type || !parked.entity.getWorld().equals(location.getWorld())) {
+                continue;
+            }
+            if (match == null || (Objects.equals(parked.name, displayName) && !Objects.equals(match.name, displayName))) {
+                match = parked;
+            }
+        }
+        if (match == null) {
+            npcMisses++;
+            return null;
+        }
+        npcs.remove(match);
+        if (!Objects.equals(match.name, displayName)) {
+            citizensAdapter.setName(match.npc, displayName);
+        }
+        Entity entity = citizensAdapter.getEntity(match.npc);
+        if (entity == null || !entity.isValid()) {
+            if (!citizensAdapter.spawn(match.npc, location)) {
+                destroyNpc(match.npc, entity);
+                npcMisses++;
+                return null;
+            }
+            entity = citizensAdapter.getEntity(match.npc);
+        } else {
+            entity.teleport(location);
+        }
+        if (entity != null) {
+            entity.setInvisible(false);
+        }
+        npcHits++;
+        return match.npc;
+    }
+
+    /**
+     * Makes a checked-out NPC visible by default again. Only call this once the NPC's player filter is in place;
+     * until then it stays scoped to nobody.
+     */
+    public void revealNpc(Entity entity) {
+        if (entity == null) {
+            return;
+        }
+        visibilityController.clearEntity(entity.getUniqueId());
+        entity.setVisibleByDefault(true);
+    }
+
+    /**
+     * Parks the NPC, or destroys it when the pool is full or pooling is disabled.
+     */
+    public void releaseNpc(Object npc, Entity entity, String displayName) {
+        if (npc == null) {
+            return;
+        }
+        if (entity == null || !entity.isValid() || npcs.size() >= plugin.getSceneConfig().getPoolMaxNpcs()) {
+            destroyNpc(npc, entity);
+            return;
+        }
+        citizensAdapter.applyPlayerFilter(npc, Set.of());
+        park(entity);
+        entity.setInvisible(true);
+        npcs.add(new Parked(npc, entity, displayName));
+    }
+
+    /**
+     * @return a parked camera rig of the configured type moved to the location, or null
+     */
+    public Entity checkoutRig(Location location) {
+        if (location == null || location.getWorld() == null) {
+            return null;
+        }
+        EntityType type = CameraEntityFactory.resolveEntityType(plugin);
+        for (Iterator<Parked> iterator = rigs.iterator(); iterator.hasNext(); ) {
+            Parked parked = iterator.next();
+            if (!parked.entity.isValid()) {
+                iterator.remove();
+                continue;
+            }
+            if (parked.entity.getType() != type || !parked.entity.getWorld().equals(location.getWorld())) {
+                continue;
+            }
+            iterator.remove();
+            parked.entity.teleport(location);
+            CameraEntityFactory.configure(plugin, parked.entity);
+            rigHits++;
+            return parked.entity;
+        }
+        rigMisses++;
+        return null;
+    }
+
+    public void releaseRig(Entity rig) {
+        if (rig == null) {
+            return;
+        }
+        if (!rig.isValid() || rigs.size() >= plugin.getSceneConfig().getPoolMaxRigs()) {
+            removeEntity(rig);
+            return;
+        }
+        for (Entity passenger : rig.getPassengers()) {
+            rig.removePassenger(passenger);
+        }
+        park(rig);
+        rigs.add(new Parked(null, rig, null));
+    }
+
+    public boolean isParked(Entity entity) {
+        for (Parked parked : npcs) {
+            if (parked.entity.equals(entity)) {
+                return true;
+            }
+        }
+        for (Parked parked : rigs) {
+            if (parked.entity.equals(entity)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<Entity> getParkedEntities() {
+        List<Entity> entities = new ArrayList<>(npcs.size() + rigs.size());
+        for (Parked parked : npcs) {
+            entities.add(parked.entity);
+        }
+        for (Parked parked : rigs) {
+            entities.add(parked.entity);
+        }
+        return entities;
+    }
+
+    public int getParkedNpcs() {
+        return npcs.size();
+    }
+
+    public int getParkedRigs() {
+        return rigs.size();
+    }
+
+    public long getNpcHits() {
+        return npcHits;
+    }
+
+    public long getNpcMisses() {
+        return npcMisses;
+    }
+
+    public long getRigHits() {
+        return rigHits;
+    }
+
+    public long getRigMisses() {
+        return rigMisses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    private void evictIdle() {
+        int idleTicks = plugin.getSceneConfig().getPoolIdleTicks();
+        int now = Bukkit.getCurrentTick();
+        for (Iterator<Parked> iterator = npcs.iterator(); iterator.hasNext(); ) {
+            Parked parked = iterator.next();
+            if (now - parked.parkedAt >= idleTicks || !parked.entity.isValid()) {
+                iterator.remove();
+                destroyNpc(parked.npc, parked.entity);
+                evictions++;
+            }
+        }
+        for (Iterator<Parked> iterator = rigs.iterator(); iterator.hasNext(); ) {
+            Parked parked = iterator.next();
+            if (now - parked.parkedAt >= idleTicks || !parked.entity.isValid()) {
+                iterator.remove();
+                removeEntity(parked.entity);
+                evictions++;
+            }
+        }
+    }
+
+    private void park(Entity entity) {
+        visibilityController.restrictTo(entity, Set.of());
+    }
+
+    private void destroyNpc(Object npc, Entity entity) {
+        if (citizensAdapter.isAvailable()) {
+            citizensAdapter.destroy(npc);
+        }
+        removeEntity(entity);
+    }
+
+    private void removeEntity(Entity entity) {
+        if (entity == null) {
+            return;
+        }
+        visibilityController.clearEntity(entity.getUniqueId());
+        if (entity.isValid()) {
+            entity.remove();
+        }
+    }
+
+    private static final class Parked {
+        private final Object npc;
+        private final Entity entity;
+        private final String name;
+        private final int parkedAt = Bukkit.getCurrentTick();
+
+        private Parked(Object npc, Entity entity, String name) {
+            this.npc = npc;
+            this.entity = entity;
+            this.name = name;
+        }
+    }
+}
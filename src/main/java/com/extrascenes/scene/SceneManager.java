@@ -46,28 +46,18 @@ public class SceneManager {
         Scene scene = new Scene(java.util.UUID.randomUUID().toString(), name, durationTicks, FORMAT_VERSION, tracks);
         scene.setDefaultSmoothing(readSmoothing());
         scene.setSmoothingQuality(readSmoothingQuality());
-        scene.setFreezePlayer(plugin.getConfig().getBoolean("player.freeze", true));
-        scene.setAllowGlobalCommands(plugin.getConfig().getBoolean("commands.allowGlobalDefault", false));
+        scene.setFreezePlayer(plugin.getSceneConfig().isFreezePlayer());
+        scene.setAllowGlobalCommands(plugin.getSceneConfig().isAllowGlobalCommandsDefault());
         cache.put(name.toLowerCase(), scene);
         return scene;
     }
 
     private SmoothingMode readSmoothing() {
-        String smoothing = plugin.getConfig().getString("smoothing.default", "SMOOTH");
-        try {
-            return SmoothingMode.valueOf(smoothing);
-        } catch (IllegalArgumentException ex) {
-            return SmoothingMode.SMOOTH;
-        }
+        return plugin.getSceneConfig().getDefaultSmoothing();
     }
 
     private SmoothingQuality readSmoothingQuality() {
-        String quality = plugin.getConfig().getString("smoothing.quality", "SMOOTH");
-        try {
-            return SmoothingQuality.valueOf(quality);
-        } catch (IllegalArgumentException ex) {
-            return SmoothingQuality.SMOOTH;
-        }
+        return plugin.getSceneConfig().getSmoothingQuality();
     }
 
     public void saveScene(Scene scene) throws IOException {
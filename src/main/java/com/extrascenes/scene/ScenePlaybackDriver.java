@@ -0,0 +1,178 @@
+package com.extrascenes.scene;
+
+import com.extrascenes.ExtraScenesPlugin;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Single plugin-wide timer that advances every active scene session in one pass per server tick.
+ * Sessions register on start and unregister on finish; changes made while a pass is running
+ * are applied once the pass completes.
+ */
+public class ScenePlaybackDriver {
+    private final ExtraScenesPlugin plugin;
+    private final SceneSessionManager sessionManager;
+    private final Consumer<SceneSession> playbackTick;
+    private final List<SceneSession> sessions = new ArrayList<>();
+    private final List<SceneSession> pendingAdds = new ArrayList<>();
+    private BukkitTask task;
+    private boolean passRunning;
+    private boolean compactPending;
+
+    private long passCount;
+    private long lastPassNanos;
+    private long maxPassNanos;
+    private long totalPassNanos;
+    private int lastTickedSessions;
+    private int lastSkippedSessions;
+
+    public ScenePlaybackDriver(ExtraScenesPlugin plugin, SceneSessionManager sessionManager,
+                               Consumer<SceneSession> playbackTick) {
+        this.plugin = plugin;
+        this.sessionManager = sessionManager;
+        this.playbackTick = playbackTick;
+    }
+
+    public void start() {
+        if (task != null) {
+            return;
+        }
+        task = new BukkitRunnable() {
+            @Override
+            public void run() {
+                runPass();
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        for (SceneSession session : sessions) {
+            session.setDriverAttached(false);
+        }
+        for (SceneSession session : pendingAdds) {
+            session.setDriverAttached(false);
+        }
+        sessions.clear();
+        pendingAdds.clear();
+    }
+
+    public void register(SceneSession session) {
+        if (session == null || session.isDriverAttached()) {
+            return;
+        }
+        session.setDriverAttached(true);
+        if (passRunning) {
+            pendingAdds.add(session);
+        } else {
+            sessions.add(session);
+        }
+    }
+
+    public void unregister(SceneSession session) {
+        if (session == null || !session.isDriverAttached()) {
+            return;
+        }
+        session.setDriverAttached(false);
+        if (passRunning) {
+            compactPending = true;
+        } else {
+            sessions.remove(session);
+            pendingAdds.remove(session);
+        }
+    }
+
+    private void runPass() {
+        long started = System.nanoTime();
+        int ticked = 0;
+        int skipped = 0;
+        passRunning = true;
+        try {
+            for (int i = 0, size = sessions.size(); i < size; i++) {
+                SceneSession session = sessions.get(i);
+                if (!session.isDriverAttached()) {
+                    continue;
+                }
+                boolean playing = session.getState() == SceneState.PLAYING;
+                if (!playing && !session.hasOwnedTasks()) {
+                    skipped++;
+                    continue;
+                }
+                try {
+                    session.tickOwnedTasks();
+                    if (playing && session.isDriverAttached()) {
+                        playbackTick.accept(session);
+                        ticked++;
+                    } else {
+                        skipped++;
+                    }
+                } catch (Exception ex) {
+                    plugin.getLogger().severe("Cutscene session aborted due to runtime exception for "
+                            + session.getPlayerId() + ": " + ex.getMessage());
+                    sessionManager.abortSession(session.getPlayerId(), "runtime_exception");
+                }
+            }
+        } finally {
+            passRunning = false;
+            if (compactPending) {
+                sessions.removeIf(session -> !session.isDriverAttached());
+                pendingAdds.removeIf(session -> !session.isDriverAttached());
+                compactPending = false;
+            }
+            if (!pendingAdds.isEmpty()) {
+                sessions.addAll(pendingAdds);
+                pendingAdds.clear();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        passCount++;
+        lastPassNanos = elapsed;
+        totalPassNanos += elapsed;
+        if (elapsed > maxPassNanos) {
+            maxPassNanos = elapsed;
+        }
+        lastTickedSessions = ticked;
+        lastSkippedSessions = skipped;
+    }
+
+    public void resetTimings() {
+        passCount = 0L;
+        lastPassNanos = 0L;
+        maxPassNanos = 0L;
+        totalPassNanos = 0L;
+    }
+
+    public int getSessionCount() {
+        return sessions.size() + pendingAdds.size();
+    }
+
+    public long getPassCount() {
+        return passCount;
+    }
+
+    public long getLastPassNanos() {
+        return lastPassNanos;
+    }
+
+    public long getMaxPassNanos() {
+        return maxPassNanos;
+    }
+
+    public long getAveragePassNanos() {
+        return passCount == 0L ? 0L : totalPassNanos / passCount;
+    }
+
+    public int getLastTickedSessions() {
+        return lastTickedSessions;
+    }
+
+    public int getLastSkippedSessions() {
+        return lastSkippedSessions;
+    }
+}
@@ -7,6 +7,9 @@ import com.extrascenes.ExtraScenesPlugin;
 import com.extrascenes.ScaleAttributeResolver;
 import com.extrascenes.SceneModelTrackAdapter;
 import com.extrascenes.SceneProtocolAdapter;
+import com.extrascenes.protocol.PacketActor;
+import com.extrascenes.protocol.PacketCameraRig;
+import com.extrascenes.protocol.VirtualEntityPackets;
 import com.extrascenes.visibility.SceneVisibilityController;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -26,19 +29,19 @@ import org.bukkit.attribute.Attributable;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 public class SceneRuntimeEngine {
     private static final String PREVIEW_TAG = "extrascenes_preview";
     private static final String PREVIEW_VIEWER_PREFIX = "extrascenes_viewer_";
     private static final String PREVIEW_ACTOR_PREFIX = "extrascenes_actor_";
+    private static final double PACKET_RIG_FOLLOW_DISTANCE_SQUARED = 24.0D * 24.0D;
     private final ExtraScenesPlugin plugin;
     private final SceneSessionManager sessionManager;
     private final SceneVisibilityController visibilityController;
     private final SceneProtocolAdapter protocolAdapter;
     private final CitizensAdapter citizensAdapter;
     private final EditorPreviewController editorPreviewController;
+    private final ScenePlaybackDriver playbackDriver;
     private volatile boolean actorDebugEnabled = false;
     private final Set<UUID> debugCameraViewers = ConcurrentHashMap.newKeySet();
     private final Set<UUID> debugPreviewViewers = ConcurrentHashMap.newKeySet();
@@ -52,6 +55,7 @@ public class SceneRuntimeEngine {
         this.protocolAdapter = protocolAdapter;
         this.citizensAdapter = plugin.getCitizensAdapter();
         this.editorPreviewController = new EditorPreviewController(this.citizensAdapter);
+        this.playbackDriver = new ScenePlaybackDriver(plugin, sessionManager, this::tickSession);
     }
 
 
@@ -65,7 +69,7 @@ public class SceneRuntimeEngine {
     }
 
     public void start() {
-        // per-session tasks handle playback
+        playbackDriver.start();
     }
 
     public void stop() {
@@ -73,36 +77,63 @@ public class SceneRuntimeEngine {
         for (SceneSession session : sessionManager.getActiveSessions()) {
             stopSession(session);
         }
+        playbackDriver.stop();
     }
 
-    public void startSession(SceneSession session) {
-        if (session.getRuntimeTask() != null) {
-            return;
+    public ScenePlaybackDriver getPlaybackDriver() {
+        return playbackDriver;
+    }
+
+    public long getActorWritesApplied() {
+        long total = 0L;
+        for (SceneSession session : sessionManager.getActiveSessions()) {
+            for (SessionActorHandle handle : session.getActorHandles().values()) {
+                total += handle.getAppliedWrites();
+            }
         }
-        BukkitTask task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                try {
-                    tickSession(session);
-                } catch (Exception ex) {
-                    plugin.getLogger().severe("Cutscene session aborted due to runtime exception for "
-                            + session.getPlayerId() + ": " + ex.getMessage());
-                    sessionManager.abortSession(session.getPlayerId(), "runtime_exception");
-                }
+        return total;
+    }
+
+    public long getActorWritesSuppressed() {
+        long total = 0L;
+        for (SceneSession session : sessionManager.getActiveSessions()) {
+            for (SessionActorHandle handle : session.getActorHandles().values()) {
+                total += handle.getSuppressedWrites();
             }
-        }.runTaskTimer(plugin, 1L, 1L);
-        session.setRuntimeTask(task);
+        }
+        return total;
     }
 
-    public void stopSession(SceneSession session) {
-        if (session == null) {
-            return;
+    public long getPacketMoveBytesSent() {
+        long total = 0L;
+        for (SceneSession session : sessionManager.getActiveSessions()) {
+            total += session.getPacketMoveBytesSent();
         }
-        BukkitTask task = session.getRuntimeTask();
-        if (task != null) {
-            task.cancel();
-            session.setRuntimeTask(null);
+        return total;
+    }
+
+    public long getPacketMoveBytesSaved() {
+        long total = 0L;
+        for (SceneSession session : sessionManager.getActiveSessions()) {
+            total += session.getPacketMoveBytesSaved();
+        }
+        return total;
+    }
+
+    public long getCameraRigPosesSent() {
+        long total = 0L;
+        for (SceneSession session : sessionManager.getActiveSessions()) {
+            total += session.getCameraRigPosesSent();
         }
+        return total;
+    }
+
+    public void startSession(SceneSession session) {
+        playbackDriver.register(session);
+    }
+
+    public void stopSession(SceneSession session) {
+        playbackDriver.unregister(session);
     }
 
     private void tickSession(SceneSession session) {
@@ -115,6 +146,14 @@ public class SceneRuntimeEngine {
             return;
         }
 
+        SharedSceneInstance shared = session.getSharedInstance();
+        if (shared != null) {
+            if (shared.advance(Bukkit.getCurrentTick())) {
+                tickSharedStage(player, shared);
+            }
+            session.setTimeTicks(shared.getTimeTicks());
+        }
+
         int time = session.getTimeTicks();
         int duration = session.getScene().getDurationTicks();
         int endTick = session.getEndTick();
@@ -129,14 +168,50 @@ public class SceneRuntimeEngine {
             return;
         }
 
-        runCutscenePathCommands(player, session, time);
-        updateCameraRigTransform(player, session, time);
-        ensureSpectatorTarget(player, session);
-        tickSessionActors(player, session, time);
-        maybeLogDebugCamera(player, session, time);
-        handleKeyframes(player, session, time, duration);
-        tickActionBar(player, session, time);
-        session.incrementTime();
+        int isolationRefresh = plugin.getSceneConfig().getIsolationRefreshTicks();
+        if (isolationRefresh > 0 && time % isolationRefresh == 0) {
+            sessionManager.refreshPacketIsolation(session, player);
+        }
+
+        VirtualEntityPackets bundlePackets = plugin.getSceneConfig().isPacketBundle()
+                ? protocolAdapter.getVirtualEntityPackets() : null;
+        if (bundlePackets != null) {
+            bundlePackets.beginBundle(player);
+        }
+        try {
+            runCutscenePathCommands(player, session, time);
+            updateCameraRigTransform(player, session, time);
+            ensureSpectatorTarget(player, session);
+            tickSessionActors(player, session, time);
+            maybeLogDebugCamera(player, session, time);
+            handleKeyframes(player, session, time, duration);
+            tickActionBar(player, session, time);
+        } finally {
+            if (bundlePackets != null) {
+                bundlePackets.flushBundle(player);
+            }
+        }
+        if (shared == null) {
+            session.incrementTime();
+        }
+    }
+
+    private void tickSharedStage(Player host, SharedSceneInstance shared) {
+        SceneSession stage = shared.getStage();
+        int time = shared.getTimeTicks();
+        tickSessionActors(host, stage, time);
+        for (Keyframe keyframe : stage.getScene().getKeyframeDispatchIndex().getDue(time)) {
+            if (keyframe instanceof ModelKeyframe model) {
+                handleModelKeyframe(host, stage, model);
+            }
+        }
+    }
+
+    /**
+     * In a shared instance the stage owns the Citizens actors and every viewer owns its client-only packet actors.
+     */
+    private boolean isActorOwnedElsewhere(SceneSession session, boolean packetActor) {
+        return session.getSharedInstance() != null && packetActor == session.isSharedStage();
     }
 
     public void setDebugCameraEnabled(UUID viewerId, boolean enabled) {
@@ -237,7 +312,7 @@ public class SceneRuntimeEngine {
 
 
 
-    private void maybeLogActorTransform(Player viewer, String actorId, int tick, Transform transform, SessionActorHandle handle,
+    private void maybeLogActorTransform(Player viewer, String actorId, int tick, Location transform, SessionActorHandle handle,
                                         boolean recordingPreview, List<String> executedActions) {
         if (!actorDebugEnabled || transform == null || tick % 20 != 0) {
             return;
@@ -245,7 +320,8 @@ public class SceneRuntimeEngine {
         String mode = recordingPreview ? "preview" : "runtime";
         String entityInfo = handle != null && handle.getEntity() != null
                 ? handle.getEntity().getUniqueId().toString() + " visible=" + viewer.canSee(handle.getEntity())
-                : "missing";
+                : handle != null && handle.getPacketActor() != null
+                ? "packet:" + handle.getPacketActor().getEntityId() : "missing";
         String actions = executedActions == null || executedActions.isEmpty() ? "none" : String.join(",", executedActions);
         double scale = readScale(handle != null ? handle.getEntity() : null);
         plugin.getLogger().info(String.format(java.util.Locale.ROOT,
@@ -264,21 +340,58 @@ public class SceneRuntimeEngine {
         citizensAdapter.disableNameplate(npc);
     }
 
-    private void tickSessionActors(Player viewer, SceneSession session, int tick) {
-        if (!citizensAdapter.isAvailable()) {
-            return;
+    void clearNameplate(SessionActorHandle handle) {
+        Entity entity = handle.getEntity();
+        boolean showing = entity != null && (entity.isCustomNameVisible() || entity.customName() != null);
+        if (handle.shouldClearNameplate(showing)) {
+            clearNameplate(entity, handle.getCitizensNpc());
         }
-        if (session.getActorHandles().isEmpty()) {
+    }
+
+    void applyActorScale(SessionActorHandle handle, double scale) {
+        if (handle.shouldApplyScale(scale)) {
+            if (handle.getPacketActor() != null) {
+                handle.getPacketActor().setScale(scale);
+            } else {
+                applyScale(handle.getEntity(), scale);
+            }
+        }
+    }
+
+    void setActorInvisible(SessionActorHandle handle, boolean invisible) {
+        if (handle.shouldApplyInvisible(invisible)) {
+            if (handle.getPacketActor() != null) {
+                handle.getPacketActor().setInvisible(invisible);
+            } else {
+                handle.getEntity().setInvisible(invisible);
+            }
+        }
+    }
+
+    private void tickSessionActors(Player viewer, SceneSession session, int tick) {
+        if (!session.isActorsSpawned()) {
             spawnSessionActors(viewer, session);
+            session.setActorsSpawned(true);
         }
         for (SceneActorTemplate template : session.getScene().getActorTemplates().values()) {
             if (session.isPreview() && !template.isPreviewEnabled()) {
                 continue;
             }
-            if (session.isPreview() && template.getTransformTicks().isEmpty() && template.getTickActions().isEmpty()) {
+            if (session.isPreview() && template.getMotion().isEmpty() && template.getTickActions().isEmpty()) {
                 continue;
             }
             SessionActorHandle handle = session.getActorHandle(template.getActorId());
+            boolean packetActor = handle != null ? handle.getPacketActor() != null : usesPacketBackend(template);
+            if (isActorOwnedElsewhere(session, packetActor)) {
+                continue;
+            }
+            if (packetActor) {
+                tickPacketActor(viewer, session, template, handle, tick);
+                continue;
+            }
+            if (!citizensAdapter.isAvailable()) {
+                continue;
+            }
             if (handle == null || handle.getEntity() == null || !handle.getEntity().isValid()) {
                 spawnSessionActor(viewer, session, template);
                 handle = session.getActorHandle(template.getActorId());
@@ -286,48 +399,148 @@ public class SceneRuntimeEngine {
                     continue;
                 }
             }
-            clearNameplate(handle.getEntity(), handle.getCitizensNpc());
+            clearNameplate(handle);
             ActorTickAction action = template.getTickAction(tick);
-            boolean shouldBeSpawned = isActorSpawnedAtTick(template, tick);
+            ActorSpawnSchedule schedule = handle.getSpawnSchedule();
+            boolean shouldBeSpawned = schedule == null || schedule.isSpawnedAt(tick);
             handle.setSpawned(shouldBeSpawned);
+            setActorInvisible(handle, !shouldBeSpawned);
             if (!shouldBeSpawned) {
                 if (action != null) {
-                    applyActorTickAction(viewer, template, handle, action, tick, false);
+                    applyActorTickAction(viewer, session, template, handle, action, tick, false);
                 }
-                handle.getEntity().setInvisible(true);
                 continue;
             }
 
-            ActorTransformTick transformTick = resolveTransformTick(template, tick);
-            Transform transform = transformTick != null ? transformTick.getTransform() : handle.getLastTransform();
-            if (transform == null) {
-                transform = resolveTransformForPreview(template, tick);
-            }
-            if (transform == null) {
+            ActorMotionBuffer motion = template.getMotion();
+            int sample = motion.indexAt(tick);
+            int pose = resolveMotionIndex(motion, handle, tick, true);
+            if (pose < 0) {
                 continue;
             }
-            handle.setLastTransform(transform);
-            Location target = handle.getEntity().getLocation().clone();
-            transform.applyTo(target);
-            if (template.getPlaybackMode() == ActorPlaybackMode.WALK) {
-                citizensAdapter.setMoveDestination(handle.getCitizensNpc(), target);
-            } else {
-                handle.getEntity().teleport(target);
+            handle.setLastMotionTick(motion.getFirstTick() + pose);
+            Location target = motion.applyTo(pose, handle.getEntity().getLocation());
+            boolean rotationOnly = handle.isPosePosition(target);
+            if (handle.shouldApplyPose(target)) {
+                if (template.getPlaybackMode() == ActorPlaybackMode.WALK) {
+                    citizensAdapter.setMoveDestination(handle.getCitizensNpc(), target);
+                } else if (rotationOnly) {
+                    handle.getEntity().setRotation(target.getYaw(), target.getPitch());
+                } else {
+                    handle.getEntity().teleport(target);
+                }
             }
-            if (transformTick != null && handle.getEntity() instanceof LivingEntity living) {
-                living.setGliding(transformTick.isGliding());
+            if (sample >= 0 && handle.getEntity() instanceof LivingEntity living
+                    && handle.shouldApplyGliding(motion.isGliding(sample))) {
+                living.setGliding(motion.isGliding(sample));
             }
-            applyScale(handle.getEntity(), template.getScale());
-            List<String> executedActions = applyActorTickAction(viewer, template, handle, action, tick, false);
-            maybeLogActorTransform(viewer, template.getActorId(), tick, transform, handle, false, executedActions);
+            applyActorScale(handle, template.getScale());
+            List<String> executedActions = applyActorTickAction(viewer, session, template, handle, action, tick, false);
+            maybeLogActorTransform(viewer, template.getActorId(), tick, target, handle, false, executedActions);
         }
     }
 
+    private void tickPacketActor(Player viewer, SceneSession session, SceneActorTemplate template,
+                                 SessionActorHandle handle, int tick) {
+        if (handle == null) {
+            spawnSessionActor(viewer, session, template);
+            handle = session.getActorHandle(template.getActorId());
+            if (handle == null || handle.getPacketActor() == null) {
+                return;
+            }
+        }
+        PacketActor actor = handle.getPacketActor();
+        ActorTickAction action = template.getTickAction(tick);
+        ActorSpawnSchedule schedule = handle.getSpawnSchedule();
+        boolean shouldBeSpawned = schedule == null || schedule.isSpawnedAt(tick);
+        handle.setSpawned(shouldBeSpawned);
+        setActorInvisible(handle, !shouldBeSpawned);
+        if (!shouldBeSpawned) {
+            if (action != null) {
+                applyActorTickAction(viewer, session, template, handle, action, tick, false);
+            }
+            return;
+        }
+
+        ActorMotionBuffer motion = template.getMotion();
+        int sample = motion.indexAt(tick);
+        int pose = resolveMotionIndex(motion, handle, tick, true);
+        if (pose < 0) {
+            return;
+        }
+        handle.setLastMotionTick(motion.getFirstTick() + pose);
+        Location target = motion.applyTo(pose, new Location(viewer.getWorld(), 0.0D, 0.0D, 0.0D));
+        if (handle.shouldApplyPose(target)) {
+            actor.moveTo(target.getX(), target.getY(), target.getZ(), target.getYaw(), target.getPitch());
+        }
+        if (sample >= 0) {
+            if (handle.shouldApplyGliding(motion.isGliding(sample))) {
+                actor.setGliding(motion.isGliding(sample));
+            }
+            actor.setSneaking(motion.isSneaking(sample));
+        }
+        applyActorScale(handle, template.getScale());
+        List<String> executedActions = applyActorTickAction(viewer, session, template, handle, action, tick, false);
+        maybeLogActorTransform(viewer, template.getActorId(), tick, target, handle, false, executedActions);
+    }
+
+    boolean usesPacketBackend(SceneActorTemplate template) {
+        ActorBackend backend = template.getBackend();
+        if (backend == ActorBackend.DEFAULT) {
+            backend = plugin.getSceneConfig().getActorBackend();
+        }
+        return backend == ActorBackend.PACKET && protocolAdapter.getVirtualEntityPackets() != null;
+    }
+
+    private void spawnPacketActor(Player viewer, SceneSession session, SceneActorTemplate template) {
+        PacketActor actor = new PacketActor(protocolAdapter.getVirtualEntityPackets(), viewer, template.getEntityType());
+        actor.setResyncInterval(protocolAdapter.getPacketResyncInterval());
+        applyPacketActorSkin(actor, template.getSkinTexture(), template.getSkinSignature(), template.getSkinName());
+        Location spawnLocation = viewer.getLocation().clone();
+        if (!template.getMotion().isEmpty()) {
+            template.getMotion().applyTo(0, spawnLocation);
+        }
+        SessionActorHandle handle = new SessionActorHandle(template.getActorId(), actor);
+        ActorSpawnSchedule schedule = ActorSpawnSchedule.compile(template);
+        handle.setSpawnSchedule(schedule);
+        if (!schedule.isSpawnedAt(session.getTimeTicks())) {
+            setActorInvisible(handle, true);
+            handle.setSpawned(false);
+        }
+        applyActorScale(handle, template.getScale());
+        actor.spawn(spawnLocation.getX(), spawnLocation.getY(), spawnLocation.getZ(),
+                spawnLocation.getYaw(), spawnLocation.getPitch());
+        session.registerActorHandle(handle);
+    }
+
+    void applyPacketActorSkin(PacketActor actor, String texture, String signature, String skinName) {
+        if ((texture == null || texture.isBlank()) && skinName != null && !skinName.isBlank()) {
+            SkinLibrary.SkinEntry entry = plugin.getSkinLibrary().get(skinName);
+            if (entry != null) {
+                texture = entry.texture();
+                signature = entry.signature();
+            }
+        }
+        if (texture != null && !texture.isBlank()) {
+            actor.setSkin(texture, signature);
+        }
+    }
+
+    public void destroyPacketActor(PacketActor actor) {
+        if (actor == null) {
+            return;
+        }
+        actor.destroy();
+    }
+
     private void spawnSessionActors(Player viewer, SceneSession session) {
         for (SceneActorTemplate template : session.getScene().getActorTemplates().values()) {
             if (session.isPreview() && !isPreviewEligible(template)) {
                 continue;
             }
+            if (isActorOwnedElsewhere(session, usesPacketBackend(template))) {
+                continue;
+            }
             spawnSessionActor(viewer, session, template);
         }
     }
@@ -335,119 +548,168 @@ public class SceneRuntimeEngine {
     private void spawnSessionActor(Player viewer, SceneSession session, SceneActorTemplate template) {
         SessionActorHandle existing = session.getActorHandle(template.getActorId());
         if (existing != null) {
-            if (existing.getCitizensNpc() != null) {
-                citizensAdapter.destroy(existing.getCitizensNpc());
-            }
             Entity previousEntity = existing.getEntity();
             if (previousEntity != null) {
                 session.unregisterEntity(previousEntity);
                 sessionManager.unregisterSceneEntity(previousEntity);
-                if (previousEntity.isValid()) {
-                    previousEntity.remove();
-                }
             }
+            if (existing.getCitizensNpc() != null) {
+                sessionManager.getEntityPool().releaseNpc(existing.getCitizensNpc(), previousEntity,
+                        template.getDisplayName());
+            } else if (previousEntity != null && previousEntity.isValid()) {
+                previousEntity.remove();
+            }
+            destroyPacketActor(existing.getPacketActor());
             session.unregisterActorHandle(template.getActorId());
         }
-        Object npc = citizensAdapter.createNpc(template.getEntityType(), template.getDisplayName());
+        if (usesPacketBackend(template)) {
+            spawnPacketActor(viewer, session, template);
+            return;
+        }
+        if (!citizensAdapter.isAvailable()) {
+            return;
+        }
+        Location spawnLocation = viewer.getLocation().clone();
+        if (!template.getMotion().isEmpty()) {
+            template.getMotion().applyTo(0, spawnLocation);
+        }
+        Object npc = sessionManager.getEntityPool().checkoutNpc(template.getEntityType(), template.getDisplayName(),
+                spawnLocation);
+        boolean pooled = npc != null;
+        if (!pooled) {
+            npc = citizensAdapter.createNpc(template.getEntityType(), template.getDisplayName());
+        }
             if (npc == null) {
                 return;
             }
             citizensAdapter.applySkinPersistent(npc, template);
-            boolean playerFilterApplied = citizensAdapter.applyPlayerFilter(npc, viewer.getUniqueId());
+            SharedSceneInstance shared = session.isSharedStage() ? session.getSharedInstance() : null;
+            boolean playerFilterApplied = shared != null
+                    ? citizensAdapter.applyPlayerFilter(npc, shared.getViewerIds())
+                    : citizensAdapter.applyPlayerFilter(npc, viewer.getUniqueId());
             if (!playerFilterApplied && !protocolAdapter.isProtocolLibAvailable()) {
                 plugin.getLogger().warning("per-viewer actor visibility requires ProtocolLib");
-                citizensAdapter.destroy(npc);
+                discardNpc(npc, pooled, template);
                 return;
             }
-            citizensAdapter.configureNpc(npc);
-
-            Location spawnLocation = viewer.getLocation().clone();
-            ActorTransformTick first = template.getTransformTicks().values().stream().findFirst().orElse(null);
-            if (first != null && first.getTransform() != null) {
-                first.getTransform().applyTo(spawnLocation);
-            }
-            if (!citizensAdapter.spawn(npc, spawnLocation)) {
-                citizensAdapter.destroy(npc);
-                return;
+            if (!pooled) {
+                citizensAdapter.configureNpc(npc);
+                if (!citizensAdapter.spawn(npc, spawnLocation)) {
+                    citizensAdapter.destroy(npc);
+                    return;
+                }
             }
             Entity entity = citizensAdapter.getEntity(npc);
             if (entity == null) {
-                citizensAdapter.destroy(npc);
+                discardNpc(npc, pooled, template);
                 return;
             }
             entity.setSilent(true);
             entity.setInvulnerable(true);
             entity.setGravity(false);
-            clearNameplate(entity, npc);
             if (entity instanceof LivingEntity livingEntity) {
                 livingEntity.setAI(false);
             }
-            applyScale(entity, template.getScale());
-            session.registerEntity(entity);
             SessionActorHandle handle = new SessionActorHandle(template.getActorId(), npc, entity);
-            Integer firstSpawnTick = template.getTickActions().values().stream()
-                    .filter(ActorTickAction::isSpawn)
-                    .map(ActorTickAction::getTick)
-                    .min(Integer::compareTo)
-                    .orElse(0);
-            if (firstSpawnTick > 0) {
-                entity.setInvisible(true);
+            clearNameplate(handle);
+            applyActorScale(handle, template.getScale());
+            session.registerEntity(entity);
+            ActorSpawnSchedule schedule = ActorSpawnSchedule.compile(template);
+            handle.setSpawnSchedule(schedule);
+            if (!schedule.isSpawnedAt(session.getTimeTicks())) {
+                setActorInvisible(handle, true);
                 handle.setSpawned(false);
             }
             session.registerActorHandle(handle);
             sessionManager.registerSceneEntity(session, entity);
-            citizensAdapter.disableNameplate(npc);
+            if (shared != null) {
+                sessionManager.applySharedVisibility(shared, entity);
+                return;
+            }
             if (!playerFilterApplied) {
-                visibilityController.hideEntityFromAllExcept(entity, viewer);
+                visibilityController.restrictTo(entity, viewer);
+            } else {
+                visibilityController.showEntityToPlayer(entity, viewer);
             }
-            visibilityController.showEntityToPlayer(entity, viewer);
     }
 
-    private ActorTransformTick resolveTransformTick(SceneActorTemplate template, int tick) {
-        ActorTransformTick exact = template.getTransformTick(tick);
-        if (exact != null) {
-            return exact;
+    /**
+     * Hands a pooled NPC back to the pool, or destroys one created for this spawn.
+     */
+    private void discardNpc(Object npc, boolean pooled, SceneActorTemplate template) {
+        if (pooled) {
+            sessionManager.getEntityPool().releaseNpc(npc, citizensAdapter.getEntity(npc), template.getDisplayName());
+        } else {
+            citizensAdapter.destroy(npc);
         }
-        ActorTransformTick last = null;
-        for (ActorTransformTick candidate : template.getTransformTicks().values()) {
-            if (candidate.getTick() > tick) {
-                break;
-            }
-            last = candidate;
+    }
+
+    private int resolveMotionIndex(ActorMotionBuffer motion, SessionActorHandle handle, int tick, boolean fallbackToFirst) {
+        int index = motion.indexAt(tick);
+        if (index < 0 && handle != null && handle.getLastMotionTick() >= 0) {
+            index = motion.indexAt(handle.getLastMotionTick());
         }
-        return last;
+        if (index < 0 && fallbackToFirst && !motion.isEmpty()) {
+            index = 0;
+        }
+        return index;
     }
 
-    private List<String> applyActorTickAction(Player viewer, SceneActorTemplate template, SessionActorHandle handle,
-                                      ActorTickAction action, int tick, boolean previewMode) {
+    /**
+     * Applies an actor's tick action. A shared stage ticks its actors once for the whole party with whichever viewer
+     * advanced it, so look-at resolves entities in that viewer's world, while commands run once per party member.
+     */
+    private List<String> applyActorTickAction(Player viewer, SceneSession session, SceneActorTemplate template,
+                                              SessionActorHandle handle, ActorTickAction action, int tick,
+                                              boolean previewMode) {
         List<String> executedActions = new ArrayList<>();
-        if (action == null || handle == null || handle.getEntity() == null) {
+        if (action == null || handle == null || (handle.getEntity() == null && handle.getPacketActor() == null)) {
             return executedActions;
         }
         Entity entity = handle.getEntity();
+        PacketActor packetActor = handle.getPacketActor();
         if (action.getLookAtTarget() != null) {
-            float[] angles = resolveLookAt(viewer, null,
-                    Transform.fromLocation(entity.getLocation()), action.getLookAtTarget());
-            entity.setRotation(angles[0], angles[1]);
+            if (packetActor != null) {
+                float[] angles = resolveLookAt(viewer, null, new Transform(packetActor.getX(), packetActor.getY(),
+                        packetActor.getZ(), packetActor.getYaw(), packetActor.getPitch()), action.getLookAtTarget());
+                packetActor.moveTo(packetActor.getX(), packetActor.getY(), packetActor.getZ(), angles[0], angles[1]);
+            } else {
+                float[] angles = resolveLookAt(viewer, null,
+                        Transform.fromLocation(entity.getLocation()), action.getLookAtTarget());
+                entity.setRotation(angles[0], angles[1]);
+            }
+            handle.invalidatePose();
             executedActions.add("look-at");
         }
-        if (action.getAnimation() != null && !action.getAnimation().isBlank() && entity instanceof LivingEntity livingEntity) {
-            livingEntity.swingMainHand();
+        if (action.getAnimation() != null && !action.getAnimation().isBlank()
+                && (packetActor != null || entity instanceof LivingEntity)) {
+            if (packetActor != null) {
+                packetActor.swingMainHand();
+            } else {
+                ((LivingEntity) entity).swingMainHand();
+            }
             executedActions.add("play-animation:" + action.getAnimation());
         }
         if (action.isStopAnimation()) {
             executedActions.add("stop-animation");
         }
         if (action.getScale() != null) {
-            applyScale(entity, action.getScale());
+            applyActorScale(handle, action.getScale());
             executedActions.add("set-scale:" + action.getScale());
         }
         if (action.getSkinName() != null && !action.getSkinName().isBlank()) {
-            citizensAdapter.applySkin(handle.getCitizensNpc(), action.getSkinName());
+            if (packetActor != null) {
+                applyPacketActorSkin(packetActor, null, null, action.getSkinName());
+            } else {
+                citizensAdapter.applySkin(handle.getCitizensNpc(), action.getSkinName());
+            }
             executedActions.add("set-skin:" + action.getSkinName());
         }
         if (action.getCommand() != null && !action.getCommand().isBlank()) {
-            Bukkit.dispatchCommand(Bukkit.getConsoleSender(), action.getCommand().replace("{player}", viewer.getName()));
+            for (Player target : actionViewers(viewer, session)) {
+                protocolAdapter.passSceneSounds(target);
+                Bukkit.dispatchCommand(Bukkit.getConsoleSender(), action.getCommand().replace("{player}", target.getName()));
+            }
             executedActions.add("run-command");
         }
         if (action.isSpawn()) {
@@ -459,6 +721,20 @@ public class SceneRuntimeEngine {
         return executedActions;
     }
 
+    private List<Player> actionViewers(Player viewer, SceneSession session) {
+        if (session == null || !session.isSharedStage() || session.getSharedInstance() == null) {
+            return List.of(viewer);
+        }
+        List<Player> viewers = new ArrayList<>();
+        for (UUID viewerId : session.getSharedInstance().getViewerIds()) {
+            Player member = Bukkit.getPlayer(viewerId);
+            if (member != null) {
+                viewers.add(member);
+            }
+        }
+        return viewers;
+    }
+
     public void clearRecordingPreview(Player player) {
         if (player == null) {
             return;
@@ -496,6 +772,7 @@ public class SceneRuntimeEngine {
             }
             String actorKey = template.getActorId().toLowerCase(java.util.Locale.ROOT);
             liveActorIds.add(actorKey);
+            ActorSpawnSchedule spawnSchedule = ActorSpawnSchedule.compile(template);
             SessionActorHandle handle = handles.get(actorKey);
             if (handle == null || handle.getEntity() == null || !handle.getEntity().isValid()) {
                 if (handle != null) {
@@ -533,48 +810,48 @@ public class SceneRuntimeEngine {
                     continue;
                 }
                 if (!playerFilterApplied) {
-                    visibilityController.hideEntityFromAllExcept(entity, viewer);
+                    visibilityController.restrictTo(entity, viewer);
+                } else {
+                    visibilityController.showEntityToPlayer(entity, viewer);
                 }
-                visibilityController.showEntityToPlayer(entity, viewer);
                 handle = new SessionActorHandle(template.getActorId(), npc, entity);
-                handle.setSpawned(isActorSpawnedAtTick(template, tick));
+                handle.markInvisibleApplied(true);
+                handle.setSpawned(spawnSchedule.isSpawnedAt(tick));
                 editorPreviewController.register(viewer, handle);
             }
-            clearNameplate(handle.getEntity(), handle.getCitizensNpc());
+            clearNameplate(handle);
             tagPreviewEntity(handle.getEntity(), viewer, actorKey);
             cleanupDuplicateTaggedPreviewEntities(viewer, actorKey, handle.getEntity());
             ActorTickAction action = template.getTickAction(tick);
-            boolean shouldBeSpawned = isActorSpawnedAtTick(template, tick);
+            boolean shouldBeSpawned = spawnSchedule.isSpawnedAt(tick);
             handle.setSpawned(shouldBeSpawned);
             if (!shouldBeSpawned) {
                 if (action != null) {
-                    applyActorTickAction(viewer, template, handle, action, tick, true);
+                    applyActorTickAction(viewer, null, template, handle, action, tick, true);
                 }
-                handle.getEntity().setInvisible(true);
+                setActorInvisible(handle, true);
                 continue;
             }
 
-            ActorTransformTick transformTick = resolveTransformTick(template, tick);
-            Transform transform = transformTick != null ? transformTick.getTransform() : handle.getLastTransform();
-            if (action != null && action.isSpawn() && transform == null) {
-                transform = resolveTransformForPreview(template, tick);
-            }
-            if (transform != null) {
-                Location loc = handle.getEntity().getLocation().clone();
-                transform.applyTo(loc);
-                handle.getEntity().teleport(loc);
-                handle.getEntity().setInvisible(false);
-                applyScale(handle.getEntity(), template.getScale());
-                handle.setLastTransform(transform);
+            ActorMotionBuffer motion = template.getMotion();
+            int pose = resolveMotionIndex(motion, handle, tick, action != null && action.isSpawn());
+            if (pose >= 0) {
+                Location loc = motion.applyTo(pose, handle.getEntity().getLocation());
+                if (handle.shouldApplyPose(loc)) {
+                    handle.getEntity().teleport(loc);
+                }
+                setActorInvisible(handle, false);
+                applyActorScale(handle, template.getScale());
+                handle.setLastMotionTick(motion.getFirstTick() + pose);
                 handle.setSpawned(true);
-                List<String> executedActions = applyActorTickAction(viewer, template, handle, action, tick, true);
-                maybeLogActorTransform(viewer, template.getActorId(), tick, transform, handle, true, executedActions);
+                List<String> executedActions = applyActorTickAction(viewer, null, template, handle, action, tick, true);
+                maybeLogActorTransform(viewer, template.getActorId(), tick, loc, handle, true, executedActions);
             } else if (action != null) {
-                applyActorTickAction(viewer, template, handle, action, tick, true);
-                handle.getEntity().setInvisible(true);
+                applyActorTickAction(viewer, null, template, handle, action, tick, true);
+                setActorInvisible(handle, true);
                 handle.setSpawned(false);
             } else {
-                handle.getEntity().setInvisible(true);
+                setActorInvisible(handle, true);
                 handle.setSpawned(false);
             }
         }
@@ -582,69 +859,14 @@ public class SceneRuntimeEngine {
         emitDebugPreview(viewer);
     }
 
-    private boolean shouldActorBeSpawnedAtTick(SceneActorTemplate template, int tick) {
-        if (template == null) {
-            return false;
-        }
-        boolean spawned = template.getTickActions().values().stream()
-                .noneMatch(ActorTickAction::isSpawn);
-        for (ActorTickAction candidate : template.getTickActions().values()) {
-            if (candidate == null || candidate.getTick() > tick) {
-                break;
-            }
-            if (candidate.isSpawn()) {
-                spawned = true;
-            }
-            if (candidate.isDespawn()) {
-                spawned = false;
-            }
-        }
-        return spawned;
-    }
-
     private Location resolvePreviewSpawnLocation(Player viewer, SceneActorTemplate template, int tick) {
         Location spawnLocation = viewer.getLocation().clone();
-        Transform transform = resolveTransformForPreview(template, tick);
-        if (transform == null) {
+        ActorMotionBuffer motion = template.getMotion();
+        int index = resolveMotionIndex(motion, null, tick, true);
+        if (index < 0) {
             return spawnLocation;
         }
-        transform.applyTo(spawnLocation);
-        return spawnLocation;
-    }
-
-    private Transform resolveTransformForPreview(SceneActorTemplate template, int tick) {
-        ActorTransformTick nearest = resolveTransformTick(template, tick);
-        if (nearest != null && nearest.getTransform() != null) {
-            return nearest.getTransform();
-        }
-        if (template == null || template.getTransformTicks().isEmpty()) {
-            return null;
-        }
-        Map.Entry<Integer, ActorTransformTick> first = template.getTransformTicks().entrySet().stream().findFirst().orElse(null);
-        if (first == null || first.getValue() == null) {
-            return null;
-        }
-        return first.getValue().getTransform();
-    }
-
-    private boolean isActorSpawnedAtTick(SceneActorTemplate template, int tick) {
-        if (template == null) {
-            return false;
-        }
-        boolean hasExplicitSpawnAction = template.getTickActions().values().stream().anyMatch(ActorTickAction::isSpawn);
-        boolean spawned = !hasExplicitSpawnAction;
-        for (ActorTickAction action : template.getTickActions().values()) {
-            if (action == null || action.getTick() > tick) {
-                continue;
-            }
-            if (action.isSpawn()) {
-                spawned = true;
-            }
-            if (action.isDespawn()) {
-                spawned = false;
-            }
-        }
-        return spawned;
+        return motion.applyTo(index, spawnLocation);
     }
 
     private void cleanupStalePreviewActors(Player viewer, Map<String, SessionActorHandle> handles, Set<String> liveActorIds) {
@@ -746,7 +968,7 @@ public class SceneRuntimeEngine {
         if (template == null || !template.isPreviewEnabled()) {
             return false;
         }
-        if (!template.getTransformTicks().isEmpty()) {
+        if (!template.getMotion().isEmpty()) {
             return true;
         }
         return template.getTickActions().values().stream()
@@ -779,8 +1001,12 @@ public class SceneRuntimeEngine {
         if (player.getGameMode() != org.bukkit.GameMode.SPECTATOR) {
             player.setGameMode(org.bukkit.GameMode.SPECTATOR);
         }
-        CutsceneFrame frame = getCameraFrameAtTick(session, session.getTimeTicks());
-        if (frame != null && (frame.isPlayerCamera() || frame.isAllowPlayerLook())) {
+        if (session.getPacketCameraRig() != null) {
+            return;
+        }
+        CameraFrameBuffer timeline = session.getCameraTimeline();
+        int frame = getCameraFrameAtTick(session, session.getTimeTicks());
+        if (frame >= 0 && (timeline.isPlayerCamera(frame) || timeline.isAllowPlayerLook(frame))) {
             player.setSpectatorTarget(null);
             return;
         }
@@ -802,44 +1028,126 @@ public class SceneRuntimeEngine {
     }
 
     private void updateCameraRigTransform(Player player, SceneSession session, int timeTicks) {
-        CutsceneFrame frame = getCameraFrameAtTick(session, timeTicks);
-        if (frame == null || frame.getLocation() == null) {
+        CameraFrameBuffer timeline = session.getCameraTimeline();
+        int frame = getCameraFrameAtTick(session, timeTicks);
+        if (frame < 0) {
             return;
         }
-        if (frame.isPlayerCamera()) {
-            Location playerPoint = frame.getLocation().clone();
-            playerPoint.setWorld(player.getWorld());
+        if (timeline.isPlayerCamera(frame)) {
+            Location playerPoint = timeline.applyTo(frame, new Location(player.getWorld(), 0.0D, 0.0D, 0.0D));
             player.teleport(playerPoint);
             player.addPotionEffect(new org.bukkit.potion.PotionEffect(org.bukkit.potion.PotionEffectType.BLINDNESS, 6, 0, false, false, false), true);
-            session.setLastAppliedSegmentIndex(frame.getSegmentIndex());
+            session.setLastAppliedSegmentIndex(timeline.getSegmentIndex(frame));
+            detachPacketCameraRig(session);
+            session.setCameraRigHandoffId(null);
             return;
         }
         player.removePotionEffect(org.bukkit.potion.PotionEffectType.BLINDNESS);
-        if (frame.isAllowPlayerLook()) {
-            Location playerPoint = frame.getLocation().clone();
-            playerPoint.setWorld(player.getWorld());
+        if (timeline.isAllowPlayerLook(frame)) {
+            Location playerPoint = timeline.applyTo(frame, new Location(player.getWorld(), 0.0D, 0.0D, 0.0D));
             Location current = player.getLocation();
             playerPoint.setYaw(current.getYaw());
             playerPoint.setPitch(current.getPitch());
             player.teleport(playerPoint);
             player.setSpectatorTarget(null);
+            detachPacketCameraRig(session);
+            session.setCameraRigHandoffId(null);
             session.setLastCameraLocation(playerPoint);
             session.setPlayerCameraActive(true);
             return;
         }
+        if (session.getPacketCameraRig() != null) {
+            movePacketCameraRig(player, session, frame, timeTicks);
+            return;
+        }
         Entity cameraRig = getCameraRigForTick(session, player, timeTicks);
         if (cameraRig == null) {
             sessionManager.abortSession(session.getPlayerId(), "camera_rig_missing");
             return;
         }
-        Location point = cameraRig.getLocation().clone();
-        visibilityController.hideEntityFromAllExcept(cameraRig, player);
-        visibilityController.showEntityToPlayer(cameraRig, player);
-        protocolAdapter.applySpectatorCamera(player, cameraRig);
-        session.setLastCameraLocation(point);
+        if (session.getCameraRigMode() == CameraRigMode.MOVING) {
+            if (session.getCameraRigInterpolationTicks() > 0) {
+                sendInterpolatedRigPose(session, cameraRig, timeTicks);
+            } else {
+                moveCameraRig(session, cameraRig, frame);
+            }
+        }
+        if (!cameraRig.getUniqueId().equals(session.getCameraRigHandoffId())) {
+            visibilityController.restrictTo(cameraRig, player);
+            protocolAdapter.applySpectatorCamera(player, cameraRig);
+            session.setCameraRigHandoffId(cameraRig.getUniqueId());
+        }
+        session.setLastCameraLocation(cameraRig.getLocation());
+        session.setPlayerCameraActive(false);
+    }
+
+    private void movePacketCameraRig(Player player, SceneSession session, int frame, int timeTicks) {
+        PacketCameraRig packetRig = session.getPacketCameraRig();
+        CameraFrameBuffer timeline = session.getCameraTimeline();
+        if (frame != session.getLastCameraRigFrame()) {
+            packetRig.moveTo(timeline.getX(frame), timeline.getY(frame), timeline.getZ(frame),
+                    timeline.getYaw(frame), timeline.getPitch(frame));
+            session.setLastCameraRigFrame(frame);
+            session.incrementCameraRigPosesSent();
+        }
+        // The client only renders chunks around the player, so the spectator body trails the virtual rig.
+        Location playerLocation = player.getLocation();
+        double dx = timeline.getX(frame) - playerLocation.getX();
+        double dy = timeline.getY(frame) - playerLocation.getY();
+        double dz = timeline.getZ(frame) - playerLocation.getZ();
+        if (dx * dx + dy * dy + dz * dz > PACKET_RIG_FOLLOW_DISTANCE_SQUARED) {
+            player.teleport(timeline.applyTo(frame, new Location(player.getWorld(), 0.0D, 0.0D, 0.0D)));
+        }
+        if (!packetRig.getUniqueId().equals(session.getCameraRigHandoffId()) || timeTicks % 20 == 0) {
+            packetRig.attach();
+            session.setCameraRigHandoffId(packetRig.getUniqueId());
+        }
+        session.setLastCameraLocation(timeline.applyTo(frame, new Location(player.getWorld(), 0.0D, 0.0D, 0.0D)));
         session.setPlayerCameraActive(false);
     }
 
+    private void detachPacketCameraRig(SceneSession session) {
+        PacketCameraRig packetRig = session.getPacketCameraRig();
+        if (packetRig != null && session.getCameraRigHandoffId() != null) {
+            packetRig.detach();
+        }
+    }
+
+    private void moveCameraRig(SceneSession session, Entity cameraRig, int frame) {
+        if (frame == session.getLastCameraRigFrame()) {
+            return;
+        }
+        cameraRig.teleport(session.getCameraTimeline().applyTo(frame, cameraRig.getLocation()));
+        session.setLastCameraRigFrame(frame);
+        session.incrementCameraRigPosesSent();
+    }
+
+    private void sendInterpolatedRigPose(SceneSession session, Entity cameraRig, int timeTicks) {
+        if (timeTicks < session.getNextCameraRigPoseTick()) {
+            return;
+        }
+        CameraFrameBuffer timeline = session.getCameraTimeline();
+        int frame = timeline.runAt(timeTicks);
+        if (frame < 0) {
+            return;
+        }
+        int segment = timeline.getSegmentIndex(frame);
+        int targetTick = Math.min(timeline.size() - 1, timeTicks + session.getCameraRigInterpolationTicks());
+        for (int tick = timeTicks + 1; tick < targetTick; tick++) {
+            if (timeline.getSegmentIndex(timeline.runAt(tick)) != segment) {
+                targetTick = tick;
+                break;
+            }
+        }
+        int duration = Math.max(0, targetTick - timeTicks);
+        if (cameraRig instanceof org.bukkit.entity.Display display && display.getTeleportDuration() != duration) {
+            display.setTeleportDuration(duration);
+        }
+        cameraRig.teleport(timeline.applyTo(timeline.runAt(targetTick), cameraRig.getLocation()));
+        session.setNextCameraRigPoseTick(Math.max(timeTicks + 1, targetTick));
+        session.incrementCameraRigPosesSent();
+    }
+
     private void runCutscenePathCommands(Player player, SceneSession session, int timeTicks) {
         CutscenePath path = session.getCutscenePath();
         if (path == null) {
@@ -850,11 +1158,11 @@ public class SceneRuntimeEngine {
                 dispatchConsoleCommand(player, command);
             }
         }
-        CutsceneFrame frame = getCameraFrameAtTick(session, timeTicks);
-        if (frame == null) {
+        int frame = getCameraFrameAtTick(session, timeTicks);
+        if (frame < 0) {
             return;
         }
-        int currentSegment = frame.getSegmentIndex();
+        int currentSegment = session.getCameraTimeline().getSegmentIndex(frame);
         if (currentSegment != session.getLastAppliedSegmentIndex()
                 && session.markSegmentCommandExecuted(currentSegment)) {
             for (String command : path.getSegmentCommands(currentSegment)) {
@@ -871,188 +1179,12 @@ public class SceneRuntimeEngine {
         if (resolved.isEmpty()) {
             return;
         }
+        protocolAdapter.passSceneSounds(player);
         Bukkit.dispatchCommand(Bukkit.getConsoleSender(), resolved);
     }
 
-    private CutsceneFrame getCameraFrameAtTick(SceneSession session, int tick) {
-        List<CutsceneFrame> timeline = session.getCameraTimeline();
-        if (timeline.isEmpty()) {
-            return null;
-        }
-        int frameIndex = Math.min(Math.max(0, tick), timeline.size() - 1);
-        return timeline.get(frameIndex);
-    }
-
-    private Transform interpolateCamera(Player player, SceneSession session, List<CameraKeyframe> keyframes, int timeTicks) {
-        if (keyframes.isEmpty()) {
-            return null;
-        }
-        SmoothingQuality quality = session.getScene().getSmoothingQuality();
-        int subSamples = Math.max(1, quality.getSubSamples());
-        if (subSamples <= 1) {
-            return sampleCameraTransform(player, session, keyframes, timeTicks, quality);
-        }
-        Transform accumulated = null;
-        for (int i = 0; i < subSamples; i++) {
-            float sampleTime = timeTicks + (i / (float) subSamples);
-            Transform sample = sampleCameraTransform(player, session, keyframes, sampleTime, quality);
-            if (sample == null) {
-                continue;
-            }
-            if (accumulated == null) {
-                accumulated = new Transform(sample.getX(), sample.getY(), sample.getZ(), sample.getYaw(), sample.getPitch());
-            } else {
-                accumulated.setX(accumulated.getX() + sample.getX());
-                accumulated.setY(accumulated.getY() + sample.getY());
-                accumulated.setZ(accumulated.getZ() + sample.getZ());
-                accumulated.setYaw(accumulated.getYaw() + sample.getYaw());
-                accumulated.setPitch(accumulated.getPitch() + sample.getPitch());
-            }
-        }
-        if (accumulated == null) {
-            return null;
-        }
-        accumulated.setX(accumulated.getX() / subSamples);
-        accumulated.setY(accumulated.getY() / subSamples);
-        accumulated.setZ(accumulated.getZ() / subSamples);
-        accumulated.setYaw(accumulated.getYaw() / subSamples);
-        accumulated.setPitch(accumulated.getPitch() / subSamples);
-        return accumulated;
-    }
-
-    private Transform sampleCameraTransform(Player player, SceneSession session, List<CameraKeyframe> keyframes,
-                                            float timeTicks, SmoothingQuality quality) {
-        CameraKeyframe previous = null;
-        CameraKeyframe next = null;
-        int prevIndex = 0;
-        int nextIndex = keyframes.size() - 1;
-        for (int i = 0; i < keyframes.size(); i++) {
-            CameraKeyframe keyframe = keyframes.get(i);
-            if (keyframe.getTimeTicks() <= timeTicks) {
-                previous = keyframe;
-                prevIndex = i;
-            }
-            if (keyframe.getTimeTicks() >= timeTicks) {
-                next = keyframe;
-                nextIndex = i;
-                break;
-            }
-        }
-        if (previous == null) {
-            previous = keyframes.get(0);
-            prevIndex = 0;
-        }
-        if (next == null) {
-            next = keyframes.get(keyframes.size() - 1);
-            nextIndex = keyframes.size() - 1;
-        }
-        if (previous == next || previous.getSmoothingMode() == SmoothingMode.INSTANT) {
-            return previous.getTransform();
-        }
-
-        int startTime = previous.getTimeTicks();
-        int endTime = Math.max(startTime + 1, next.getTimeTicks());
-        float t = (timeTicks - startTime) / (float) (endTime - startTime);
-        t = Math.max(0.0f, Math.min(1.0f, t));
-        t = applySmoothing(previous.getSmoothingMode(), t);
-
-        Transform position = quality.isSplinePosition()
-                ? catmullRomTransform(keyframes, prevIndex, nextIndex, t)
-                : lerpTransform(previous.getTransform(), next.getTransform(), t);
-        if (position == null) {
-            return null;
-        }
-
-        float yaw = lerpAngle(previous.getTransform().getYaw(), next.getTransform().getYaw(), t);
-        float pitch = lerpAngle(previous.getTransform().getPitch(), next.getTransform().getPitch(), t);
-
-        LookAtTarget lookAt = previous.getLookAt();
-        if (lookAt != null && lookAt.getMode() != LookAtTarget.Mode.NONE) {
-            float[] lookAngles = resolveLookAt(player, session, position, lookAt);
-            yaw = dampAngle(yaw, lookAngles[0], 0.85f);
-            pitch = dampAngle(pitch, lookAngles[1], 0.85f);
-            pitch = clampPitch(pitch);
-        } else if (quality.isLookAhead()) {
-            Transform ahead = sampleCameraTransform(player, session, keyframes, timeTicks + quality.getLookAheadTicks(),
-                    SmoothingQuality.NORMAL);
-            if (ahead != null) {
-                float[] lookAngles = lookAtAngles(position, ahead);
-                yaw = dampAngle(yaw, lookAngles[0], 0.85f);
-                pitch = dampAngle(pitch, lookAngles[1], 0.85f);
-            }
-        }
-
-        pitch = clampPitch(pitch);
-        return new Transform(position.getX(), position.getY(), position.getZ(), yaw, pitch);
-    }
-
-    private float applySmoothing(SmoothingMode mode, float t) {
-        return switch (mode) {
-            case INSTANT -> 0.0f;
-            case LINEAR -> t;
-            case SMOOTH -> t * t * (3.0f - 2.0f * t);
-        };
-    }
-
-    private Transform lerpTransform(Transform from, Transform to, float t) {
-        if (from == null || to == null) {
-            return from != null ? from : to;
-        }
-        double x = from.getX() + (to.getX() - from.getX()) * t;
-        double y = from.getY() + (to.getY() - from.getY()) * t;
-        double z = from.getZ() + (to.getZ() - from.getZ()) * t;
-        float yaw = lerpAngle(from.getYaw(), to.getYaw(), t);
-        float pitch = lerpAngle(from.getPitch(), to.getPitch(), t);
-        return new Transform(x, y, z, yaw, pitch);
-    }
-
-    private Transform catmullRomTransform(List<CameraKeyframe> keyframes, int prevIndex, int nextIndex, float t) {
-        Transform p0 = keyframes.get(Math.max(prevIndex - 1, 0)).getTransform();
-        Transform p1 = keyframes.get(prevIndex).getTransform();
-        Transform p2 = keyframes.get(nextIndex).getTransform();
-        Transform p3 = keyframes.get(Math.min(nextIndex + 1, keyframes.size() - 1)).getTransform();
-        if (p0 == null || p1 == null || p2 == null || p3 == null) {
-            return lerpTransform(p1, p2, t);
-        }
-        double t2 = t * t;
-        double t3 = t2 * t;
-        double x = 0.5 * ((2.0 * p1.getX())
-                + (-p0.getX() + p2.getX()) * t
-                + (2.0 * p0.getX() - 5.0 * p1.getX() + 4.0 * p2.getX() - p3.getX()) * t2
-                + (-p0.getX() + 3.0 * p1.getX() - 3.0 * p2.getX() + p3.getX()) * t3);
-        double y = 0.5 * ((2.0 * p1.getY())
-                + (-p0.getY() + p2.getY()) * t
-                + (2.0 * p0.getY() - 5.0 * p1.getY() + 4.0 * p2.getY() - p3.getY()) * t2
-                + (-p0.getY() + 3.0 * p1.getY() - 3.0 * p2.getY() + p3.getY()) * t3);
-        double z = 0.5 * ((2.0 * p1.getZ())
-                + (-p0.getZ() + p2.getZ()) * t
-                + (2.0 * p0.getZ() - 5.0 * p1.getZ() + 4.0 * p2.getZ() - p3.getZ()) * t2
-                + (-p0.getZ() + 3.0 * p1.getZ() - 3.0 * p2.getZ() + p3.getZ()) * t3);
-        return new Transform(x, y, z, p1.getYaw(), p1.getPitch());
-    }
-
-    private float lerpAngle(float from, float to, float t) {
-        float delta = normalizeAngleDelta(to - from);
-        return from + delta * t;
-    }
-
-    private float normalizeAngleDelta(float delta) {
-        while (delta > 180.0f) {
-            delta -= 360.0f;
-        }
-        while (delta < -180.0f) {
-            delta += 360.0f;
-        }
-        return delta;
-    }
-
-    private float dampAngle(float from, float to, float factor) {
-        float delta = normalizeAngleDelta(to - from);
-        return from + delta * factor;
-    }
-
-    private float clampPitch(float pitch) {
-        return Math.max(-89.9f, Math.min(89.9f, pitch));
+    private int getCameraFrameAtTick(SceneSession session, int tick) {
+        return session.getCameraTimeline().runAt(tick);
     }
 
     private float[] resolveLookAt(Player player, SceneSession session, Transform position, LookAtTarget target) {
@@ -1080,12 +1212,8 @@ public class SceneRuntimeEngine {
     }
 
     private void handleKeyframes(Player player, SceneSession session, int time, int durationTicks) {
-        for (Track<? extends Keyframe> track : session.getScene().getTracks().values()) {
-            for (Keyframe keyframe : track.getKeyframes()) {
-                if (keyframe.getTimeTicks() == time) {
-                    handleKeyframe(player, session, keyframe, durationTicks);
-                }
-            }
+        for (Keyframe keyframe : session.getScene().getKeyframeDispatchIndex().getDue(time)) {
+            handleKeyframe(player, session, keyframe, durationTicks);
         }
     }
 
@@ -1095,7 +1223,9 @@ public class SceneRuntimeEngine {
         } else if (keyframe instanceof ActionBarKeyframe actionBar) {
             activateActionBar(session, actionBar);
         } else if (keyframe instanceof ModelKeyframe model) {
-            handleModelKeyframe(player, session, model);
+            if (session.getSharedInstance() == null) {
+                handleModelKeyframe(player, session, model);
+            }
         } else if (keyframe instanceof ParticleKeyframe particle) {
             handleParticleKeyframe(player, particle);
         } else if (keyframe instanceof SoundKeyframe sound) {
@@ -1121,6 +1251,7 @@ public class SceneRuntimeEngine {
                         + " tick=" + session.getTimeTicks() + " command=" + parsed.command());
                 continue;
             }
+            protocolAdapter.passSceneSounds(player);
             if (parsed.executorMode() == CommandKeyframe.ExecutorMode.CONSOLE) {
                 Bukkit.dispatchCommand(Bukkit.getConsoleSender(), parsed.command());
             } else {
@@ -1198,7 +1329,11 @@ public class SceneRuntimeEngine {
                 adapter.bindModel(base, modelId);
                 session.registerEntity(base);
                 sessionManager.registerSceneEntity(session, base);
-                visibilityController.hideEntityFromAllExcept(base, player);
+                if (session.isSharedStage()) {
+                    sessionManager.applySharedVisibility(session.getSharedInstance(), base);
+                } else {
+                    visibilityController.restrictTo(base, player);
+                }
                 String handle = keyframe.getEntityRef();
                 if (handle == null || handle.isBlank()) {
                     handle = UUID.randomUUID().toString();
@@ -1273,6 +1408,7 @@ public class SceneRuntimeEngine {
         if (transform != null) {
             transform.applyTo(location);
         }
+        protocolAdapter.expectSceneSound(player, location);
         Sound sound = findSoundByName(keyframe.getSoundId());
         if (sound != null) {
             player.playSound(location, sound, keyframe.getVolume(), keyframe.getPitch());
@@ -1317,13 +1453,28 @@ public class SceneRuntimeEngine {
         Location location = player.getLocation().clone();
         transform.applyTo(location);
         Material material = keyframe.getMaterial();
-        player.sendBlockChange(location, material.createBlockData());
+        VirtualEntityPackets packets = protocolAdapter.getVirtualEntityPackets();
+        if (packets != null) {
+            packets.sendBlockChange(player, location, material);
+        } else {
+            player.sendBlockChange(location, material.createBlockData());
+        }
     }
 
     private Entity getCameraRigForTick(SceneSession session, Player player, int tick) {
-        if (player == null || session == null) {
+        if (player == null || session == null || session.getPacketCameraRig() != null) {
             return null;
         }
+        if (session.getCameraRigMode() == CameraRigMode.MOVING) {
+            Entity cached = session.getCameraRigEntity();
+            if (cached != null && cached.isValid()) {
+                return cached;
+            }
+            Location fallback = session.getLastCameraLocation();
+            Entity rig = sessionManager.ensureCameraRig(session, player, fallback == null ? player.getLocation() : fallback);
+            session.setCameraRigEntity(rig);
+            return rig;
+        }
         int pointIndex = resolveActiveCameraPointIndex(session, tick);
         java.util.UUID rigId = session.getCameraPointRigId(pointIndex);
         if (rigId != null) {
@@ -1345,22 +1496,8 @@ public class SceneRuntimeEngine {
     }
 
     private int resolveActiveCameraPointIndex(SceneSession session, int tick) {
-        CutscenePath path = session.getCutscenePath();
-        if (path == null || path.getPoints().isEmpty()) {
-            return 0;
-        }
-        java.util.List<CameraKeyframe> points = new java.util.ArrayList<>(path.getPoints());
-        points.sort(java.util.Comparator.comparingInt(CameraKeyframe::getTimeTicks));
-        int activePoint = 0;
-        for (int index = 0; index < points.size(); index++) {
-            CameraKeyframe keyframe = points.get(index);
-            if (keyframe != null && keyframe.getTimeTicks() <= tick) {
-                activePoint = index;
-                continue;
-            }
-            break;
-        }
-        return activePoint;
+        CameraKeyframeSampler sampler = session.getCameraSampler();
+        return sampler == null ? 0 : sampler.pointIndexAt(tick);
     }
 
     private String resolveHandle(SceneSession session, ModelKeyframe keyframe) {
@@ -1387,6 +1524,11 @@ public class SceneRuntimeEngine {
             return;
         }
         String text = SceneTextFormatter.colorizeActionBar(session.getActiveActionBarText());
-        player.sendActionBar(text);
+        VirtualEntityPackets packets = protocolAdapter.getVirtualEntityPackets();
+        if (packets != null) {
+            packets.sendActionBar(player, text);
+        } else {
+            player.sendActionBar(text);
+        }
     }
 }
@@ -160,16 +160,19 @@ public class SceneSerializer {
             obj.addProperty("skinCacheKey", template.getSkinCacheKey());
             obj.addProperty("scale", template.getScale());
             obj.addProperty("playbackMode", template.getPlaybackMode().name());
+            obj.addProperty("backend", template.getBackend().name());
             obj.addProperty("previewEnabled", template.isPreviewEnabled());
             JsonArray ticks = new JsonArray();
-            for (ActorTransformTick tick : template.getTransformTicks().values()) {
+            ActorMotionBuffer motion = template.getMotion();
+            for (int tick : motion.getRecordedTicks()) {
+                int index = motion.indexAt(tick);
                 JsonObject tickObject = new JsonObject();
-                tickObject.addProperty("tick", tick.getTick());
-                tickObject.add("transform", serializeTransform(tick.getTransform()));
-                tickObject.addProperty("sneaking", tick.isSneaking());
-                tickObject.addProperty("sprinting", tick.isSprinting());
-                tickObject.addProperty("swimming", tick.isSwimming());
-                tickObject.addProperty("gliding", tick.isGliding());
+                tickObject.addProperty("tick", tick);
+                tickObject.add("transform", serializeTransform(motion.toTransform(index)));
+                tickObject.addProperty("sneaking", motion.isSneaking(index));
+                tickObject.addProperty("sprinting", motion.isSprinting(index));
+                tickObject.addProperty("swimming", motion.isSwimming(index));
+                tickObject.addProperty("gliding", motion.isGliding(index));
                 ticks.add(tickObject);
             }
             obj.add("movement", ticks);
@@ -1,5 +1,6 @@
 package com.extrascenes.scene;
 
+import com.extrascenes.protocol.PacketCameraRig;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -12,7 +13,6 @@ import java.util.List;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
 public class SceneSession {
     private final UUID sessionId;
@@ -23,6 +23,7 @@ public class SceneSession {
     private final Map<String, UUID> modelRefs = new HashMap<>();
     private final Map<String, String> lastModelHandleByEntry = new HashMap<>();
     private final Map<String, SessionActorHandle> actorHandles = new HashMap<>();
+    private boolean actorsSpawned;
     private SceneState state;
     private int timeTicks;
     private int startTick;
@@ -37,8 +38,8 @@ public class SceneSession {
     private int actionBarUntilTick;
     private String activeActionBarText;
     private String lastModelHandle;
-    private BukkitTask runtimeTask;
-    private final List<BukkitTask> ownedTasks = new ArrayList<>();
+    private boolean driverAttached;
+    private final List<SceneSessionTask> ownedTasks = new ArrayList<>();
     private int spectatorRecoveryCooldownUntilTick;
     private String forcedChunkWorld;
     private int forcedChunkX;
@@ -49,12 +50,23 @@ public class SceneSession {
     private String lastPlaybackTeleportCaller;
     private boolean spectatorHandshakeComplete;
     private int spectatorHandshakeAttempts;
-    private java.util.List<CutsceneFrame> cameraTimeline = java.util.Collections.emptyList();
+    private CameraFrameBuffer cameraTimeline = CameraFrameBuffer.EMPTY;
     private CutscenePath cutscenePath;
+    private CameraKeyframeSampler cameraSampler;
     private int lastAppliedSegmentIndex = -1;
     private final Set<Integer> executedSegmentCommands = new LinkedHashSet<>();
     private boolean playerCameraActive;
     private final java.util.Map<Integer, UUID> cameraPointRigIds = new java.util.HashMap<>();
+    private CameraRigMode cameraRigMode = CameraRigMode.POINTS;
+    private Entity cameraRigEntity;
+    private PacketCameraRig packetCameraRig;
+    private SharedSceneInstance sharedInstance;
+    private boolean sharedStage;
+    private UUID cameraRigHandoffId;
+    private int lastCameraRigFrame = -1;
+    private int cameraRigInterpolationTicks;
+    private int nextCameraRigPoseTick = Integer.MIN_VALUE;
+    private long cameraRigPosesSent;
 
     public SceneSession(Player player, Scene scene, boolean preview) {
         this(player, scene, preview, 0, scene.getDurationTicks() <= 0 ? Integer.MAX_VALUE : scene.getDurationTicks());
@@ -284,23 +296,54 @@ public class SceneSession {
 
     public void clearActorHandles() {
         actorHandles.clear();
+        actorsSpawned = false;
     }
 
-    public BukkitTask getRuntimeTask() {
-        return runtimeTask;
+    /**
+     * @return true once this session's actors were spawned, even when all of them are owned by a shared stage and
+     * the session holds no handle of its own
+     */
+    public boolean isActorsSpawned() {
+        return actorsSpawned;
     }
 
-    public void setRuntimeTask(BukkitTask runtimeTask) {
-        this.runtimeTask = runtimeTask;
+    public void setActorsSpawned(boolean actorsSpawned) {
+        this.actorsSpawned = actorsSpawned;
     }
 
-    public void registerOwnedTask(BukkitTask task) {
+    public boolean isDriverAttached() {
+        return driverAttached;
+    }
+
+    public void setDriverAttached(boolean driverAttached) {
+        this.driverAttached = driverAttached;
+    }
+
+    public void registerOwnedTask(SceneSessionTask task) {
         if (task != null) {
             ownedTasks.add(task);
         }
     }
 
-    public List<BukkitTask> getOwnedTasks() {
+    public boolean hasOwnedTasks() {
+        return !ownedTasks.isEmpty();
+    }
+
+    public void tickOwnedTasks() {
+        if (ownedTasks.isEmpty()) {
+            return;
+        }
+        for (SceneSessionTask task : new ArrayList<>(ownedTasks)) {
+            if (!driverAttached) {
+                return;
+            }
+            if (task.tick(this)) {
+                ownedTasks.remove(task);
+            }
+        }
+    }
+
+    public List<SceneSessionTask> getOwnedTasks() {
         return Collections.unmodifiableList(ownedTasks);
     }
 
@@ -375,12 +418,12 @@ public class SceneSession {
         this.spectatorHandshakeAttempts++;
     }
 
-    public java.util.List<CutsceneFrame> getCameraTimeline() {
+    public CameraFrameBuffer getCameraTimeline() {
         return cameraTimeline;
     }
 
-    public void setCameraTimeline(java.util.List<CutsceneFrame> cameraTimeline) {
-        this.cameraTimeline = cameraTimeline == null ? java.util.Collections.emptyList() : cameraTimeline;
+    public void setCameraTimeline(CameraFrameBuffer cameraTimeline) {
+        this.cameraTimeline = cameraTimeline == null ? CameraFrameBuffer.EMPTY : cameraTimeline;
     }
 
     public int getLastAppliedSegmentIndex() {
@@ -399,6 +442,14 @@ public class SceneSession {
         this.cutscenePath = cutscenePath;
     }
 
+    public CameraKeyframeSampler getCameraSampler() {
+        return cameraSampler;
+    }
+
+    public void setCameraSampler(CameraKeyframeSampler cameraSampler) {
+        this.cameraSampler = cameraSampler;
+    }
+
     public boolean markSegmentCommandExecuted(int segmentIndex) {
         return executedSegmentCommands.add(segmentIndex);
     }
@@ -433,4 +484,106 @@ public class SceneSession {
     public void clearCameraPointRigs() {
         cameraPointRigIds.clear();
     }
+
+    public int getCameraRigInterpolationTicks() {
+        return cameraRigInterpolationTicks;
+    }
+
+    public void setCameraRigInterpolationTicks(int cameraRigInterpolationTicks) {
+        this.cameraRigInterpolationTicks = Math.max(0, cameraRigInterpolationTicks);
+    }
+
+    public int getNextCameraRigPoseTick() {
+        return nextCameraRigPoseTick;
+    }
+
+    public void setNextCameraRigPoseTick(int nextCameraRigPoseTick) {
+        this.nextCameraRigPoseTick = nextCameraRigPoseTick;
+    }
+
+    public long getPacketMoveBytesSent() {
+        long total = packetCameraRig == null ? 0L : packetCameraRig.getMovementBytesSent();
+        for (SessionActorHandle handle : actorHandles.values()) {
+            if (handle.getPacketActor() != null) {
+                total += handle.getPacketActor().getMovementBytesSent();
+            }
+        }
+        return total;
+    }
+
+    public long getPacketMoveBytesSaved() {
+        long total = packetCameraRig == null ? 0L : packetCameraRig.getMovementBytesSaved();
+        for (SessionActorHandle handle : actorHandles.values()) {
+            if (handle.getPacketActor() != null) {
+                total += handle.getPacketActor().getMovementBytesSaved();
+            }
+        }
+        return total;
+    }
+
+    public long getCameraRigPosesSent() {
+        return cameraRigPosesSent;
+    }
+
+    public void incrementCameraRigPosesSent() {
+        cameraRigPosesSent++;
+    }
+
+    public CameraRigMode getCameraRigMode() {
+        return cameraRigMode;
+    }
+
+    public void setCameraRigMode(CameraRigMode cameraRigMode) {
+        this.cameraRigMode = cameraRigMode == null ? CameraRigMode.POINTS : cameraRigMode;
+    }
+
+    public Entity getCameraRigEntity() {
+        return cameraRigEntity;
+    }
+
+    public void setCameraRigEntity(Entity cameraRigEntity) {
+        this.cameraRigEntity = cameraRigEntity;
+        this.lastCameraRigFrame = -1;
+        this.nextCameraRigPoseTick = Integer.MIN_VALUE;
+    }
+
+    public UUID getCameraRigHandoffId() {
+        return cameraRigHandoffId;
+    }
+
+    public void setCameraRigHandoffId(UUID cameraRigHandoffId) {
+        this.cameraRigHandoffId = cameraRigHandoffId;
+    }
+
+    public int getLastCameraRigFrame() {
+        return lastCameraRigFrame;
+    }
+
+    public void setLastCameraRigFrame(int lastCameraRigFrame) {
+        this.lastCameraRigFrame = lastCameraRigFrame;
+    }
+
+    public SharedSceneInstance getSharedInstance() {
+        return sharedInstance;
+    }
+
+    public void setSharedInstance(SharedSceneInstance sharedInstance) {
+        this.sharedInstance = sharedInstance;
+    }
+
+    public boolean isSharedStage() {
+        return sharedStage;
+    }
+
+    public void setSharedStage(boolean sharedStage) {
+        this.sharedStage = sharedStage;
+    }
+
+    public PacketCameraRig getPacketCameraRig() {
+        return packetCameraRig;
+    }
+
+    public void setPacketCameraRig(PacketCameraRig packetCameraRig) {
+        this.packetCameraRig = packetCameraRig;
+    }
 }
@@ -4,6 +4,10 @@ import com.extrascenes.CitizensAdapter;
 import com.extrascenes.ExtraScenesPlugin;
 import com.extrascenes.MovementSpeedAttributeResolver;
 import com.extrascenes.SceneProtocolAdapter;
+import com.extrascenes.protocol.PacketCameraRig;
+import com.extrascenes.protocol.ViewerInputFilter;
+import com.extrascenes.protocol.ViewerPacketFilter;
+import com.extrascenes.protocol.VirtualEntityPackets;
 import com.extrascenes.visibility.SceneVisibilityController;
 import java.util.Collection;
 import java.util.Collections;
@@ -37,7 +41,12 @@ public class SceneSessionManager {
     private final Map<UUID, SceneSession> sessions = new HashMap<>();
     private final Map<UUID, UUID> sceneEntityToPlayer = new HashMap<>();
     private final Map<UUID, SceneSession> pendingRestores = new HashMap<>();
+    private final Map<UUID, SharedSceneInstance> sharedInstances = new java.util.LinkedHashMap<>();
     private final NamespacedKey movementLockKey;
+    private final CameraTimelineCache cameraTimelineCache;
+    private final SceneEntityPool entityPool;
+    private final Set<UUID> eventMoveLocks = new HashSet<>();
+    private long packetIsolationResyncs;
 
     public SceneSessionManager(ExtraScenesPlugin plugin, SceneVisibilityController visibilityController,
                                SceneProtocolAdapter protocolAdapter) {
@@ -46,6 +55,137 @@ public class SceneSessionManager {
         this.protocolAdapter = protocolAdapter;
         this.citizensAdapter = plugin.getCitizensAdapter();
         this.movementLockKey = new NamespacedKey(plugin, "cutscene_movement_lock");
+        this.cameraTimelineCache = new CameraTimelineCache(plugin);
+        this.entityPool = new SceneEntityPool(plugin, citizensAdapter, visibilityController);
+    }
+
+    public CameraTimelineCache getCameraTimelineCache() {
+        return cameraTimelineCache;
+    }
+
+    public SceneEntityPool getEntityPool() {
+        return entityPool;
+    }
+
+    public long getPacketIsolationResyncs() {
+        return packetIsolationResyncs;
+    }
+
+    /**
+     * @return true while any viewer relies on the move-event lock because the input filter is unavailable
+     */
+    public boolean hasEventMoveLocks() {
+        return !eventMoveLocks.isEmpty();
+    }
+
+    public boolean isEventMoveLocked(UUID playerId) {
+        return eventMoveLocks.contains(playerId);
+    }
+
+    public int getEventMoveLocks() {
+        return eventMoveLocks.size();
+    }
+
+    /**
+     * Pauses or resumes a session, releasing the movement lock while paused.
+     */
+    public void setPaused(SceneSession session, boolean paused) {
+        session.setState(paused ? SceneState.PAUSED : SceneState.PLAYING);
+        Player player = Bukkit.getPlayer(session.getPlayerId());
+        if (player == null) {
+            return;
+        }
+        if (paused) {
+            unlockInput(player.getUniqueId(), player, false);
+        } else {
+            lockInput(player);
+        }
+    }
+
+    private void lockInput(Player player) {
+        if (!plugin.getSceneConfig().isMovementLock()) {
+            return;
+        }
+        ViewerInputFilter filter = protocolAdapter.ensureViewerInputFilter();
+        if (filter != null) {
+            filter.lock(player);
+        } else {
+            eventMoveLocks.add(player.getUniqueId());
+        }
+    }
+
+    /**
+     * Releases the movement lock. When the input filter swallowed a position change and nothing else is going to
+     * place the player, a single teleport to the server position puts the client back in sync.
+     */
+    private void unlockInput(UUID playerId, Player player, boolean teleported) {
+        eventMoveLocks.remove(playerId);
+        ViewerInputFilter filter = protocolAdapter.getViewerInputFilter();
+        if (filter == null) {
+            return;
+        }
+        if (filter.unlock(playerId) && player != null && !teleported) {
+            player.teleport(player.getLocation());
+        }
+    }
+
+    /**
+     * Recomputes which real entities around the viewer's body are unrelated to its scene, so their updates are
+     * dropped by the viewer packet filter until the session ends.
+     */
+    public void refreshPacketIsolation(SceneSession session, Player player) {
+        ViewerPacketFilter filter = protocolAdapter.getViewerPacketFilter();
+        if (filter == null || !filter.isIsolated(player.getUniqueId())) {
+            return;
+        }
+        Set<UUID> related = new HashSet<>();
+        for (Entity entity : session.getSceneEntities()) {
+            related.add(entity.getUniqueId());
+        }
+        if (session.getSharedInstance() != null) {
+            for (Entity entity : session.getSharedInstance().getStage().getSceneEntities()) {
+                related.add(entity.getUniqueId());
+            }
+        }
+        double radius = plugin.getSceneConfig().getIsolationRadius();
+        Set<Integer> denied = new HashSet<>();
+        for (Entity nearby : player.getNearbyEntities(radius, radius, radius)) {
+            if (!related.contains(nearby.getUniqueId())) {
+                denied.add(nearby.getEntityId());
+            }
+        }
+        filter.setDeniedEntities(player, denied, radius);
+    }
+
+    private void isolatePackets(SceneSession session, Player player) {
+        ViewerPacketFilter filter = protocolAdapter.ensureViewerPacketFilter();
+        if (filter == null) {
+            return;
+        }
+        filter.isolate(player);
+        refreshPacketIsolation(session, player);
+    }
+
+    /**
+     * Stops filtering and respawns every entity that had updates dropped so the client catches up in one step.
+     */
+    private void releasePacketIsolation(UUID playerId, Player player) {
+        ViewerPacketFilter filter = protocolAdapter.getViewerPacketFilter();
+        if (filter == null) {
+            return;
+        }
+        Set<Integer> dropped = filter.release(playerId);
+        if (player == null || dropped.isEmpty()) {
+            return;
+        }
+        double radius = plugin.getSceneConfig().getIsolationRadius();
+        for (Entity nearby : player.getNearbyEntities(radius, radius, radius)) {
+            if (dropped.contains(nearby.getEntityId()) && player.canSee(nearby)) {
+                player.hideEntity(plugin, nearby);
+                player.showEntity(plugin, nearby);
+                packetIsolationResyncs++;
+            }
+        }
     }
 
     public SceneSession startScene(Player player, Scene scene) {
@@ -57,68 +197,182 @@ public class SceneSessionManager {
     }
 
     public SceneSession startScene(Player player, Scene scene, boolean preview, int startTick, int endTick) {
+        return startScene(player, scene, preview, startTick, endTick, null);
+    }
+
+    /**
+     * Starts a shared instance watched by all given viewers. The first viewer only hosts the stage snapshot;
+     * the instance keeps running as long as any viewer is attached.
+     */
+    public SharedSceneInstance startSharedScene(Scene scene, Collection<Player> viewers) {
+        if (scene == null || viewers == null || viewers.isEmpty()) {
+            return null;
+        }
+        Player host = viewers.iterator().next();
+        SceneSession stage = new SceneSession(host, scene, false, 0, scene.getDurationTicks());
+        stage.setSharedStage(true);
+        SharedSceneInstance instance = new SharedSceneInstance(scene, stage);
+        stage.setSharedInstance(instance);
+        sharedInstances.put(instance.getInstanceId(), instance);
+        for (Player viewer : viewers) {
+            joinSharedScene(viewer, instance);
+        }
+        if (instance.isEmpty()) {
+            endSharedInstance(instance);
+            return null;
+        }
+        plugin.getLogger().info("[scene-session] shared start instance=" + instance.getInstanceId()
+                + " scene=" + scene.getName()
+                + " viewers=" + instance.getViewerIds().size());
+        return instance;
+    }
+
+    /**
+     * Attaches a viewer to a running shared instance at its current tick.
+     */
+    public SceneSession joinSharedScene(Player player, SharedSceneInstance instance) {
+        if (player == null || instance == null || !sharedInstances.containsKey(instance.getInstanceId())) {
+            return null;
+        }
+        SceneSession current = sessions.get(player.getUniqueId());
+        if (current != null && current.getSharedInstance() == instance) {
+            return current;
+        }
+        return startScene(player, instance.getScene(), false, instance.getTimeTicks(),
+                instance.getScene().getDurationTicks(), instance);
+    }
+
+    public SharedSceneInstance getSharedInstance(UUID playerId) {
+        SceneSession session = sessions.get(playerId);
+        return session == null ? null : session.getSharedInstance();
+    }
+
+    public Collection<SharedSceneInstance> getSharedInstances() {
+        return Collections.unmodifiableCollection(sharedInstances.values());
+    }
+
+    /**
+     * Shows a stage entity to the instance's viewers and hides it from everyone else.
+     */
+    public void applySharedVisibility(SharedSceneInstance instance, Entity entity) {
+        visibilityController.restrictTo(entity, instance.getViewerIds());
+    }
+
+    private void leaveSharedInstance(SceneSession session, Player player) {
+        SharedSceneInstance instance = session.getSharedInstance();
+        instance.removeViewer(session.getPlayerId());
+        if (player != null) {
+            for (Entity entity : instance.getStage().getSceneEntities()) {
+                visibilityController.removeViewer(entity, player);
+            }
+        }
+        if (instance.isEmpty()) {
+            endSharedInstance(instance);
+        }
+    }
+
+    private void endSharedInstance(SharedSceneInstance instance) {
+        if (sharedInstances.remove(instance.getInstanceId()) == null) {
+            return;
+        }
+        SceneSession stage = instance.getStage();
+        stage.clearOwnedTasks();
+        cleanupSessionEntities(stage);
+        plugin.getLogger().info("[scene-session] shared finish instance=" + instance.getInstanceId()
+                + " scene=" + instance.getScene().getName());
+    }
+
+    private SceneSession startScene(Player player, Scene scene, boolean preview, int startTick, int endTick,
+                                    SharedSceneInstance shared) {
         SceneSession existing = sessions.get(player.getUniqueId());
         if (existing != null) {
             stopScene(player, "restart");
         }
 
         SceneSession session = new SceneSession(player, scene, preview, startTick, endTick);
+        session.setSharedInstance(shared);
         sessions.put(player.getUniqueId(), session);
         session.setStartLocation(player.getLocation().clone());
         plugin.getLogger().info("[scene-session] start viewer=" + player.getName()
                 + " session=" + session.getSessionId()
                 + " preview=" + preview
                 + " startTick=" + startTick
-                + " endTick=" + endTick);
+                + " endTick=" + endTick
+                + (shared == null ? "" : " shared=" + shared.getInstanceId()));
 
         if (scene.isFreezePlayer()) {
             player.setWalkSpeed(0.0f);
             player.setFlySpeed(0.0f);
         }
 
-        boolean blockInventoryDuringScene = plugin.getConfig().getBoolean("player.blockInventoryDuringScene", true);
+        boolean blockInventoryDuringScene = plugin.getSceneConfig().isBlockInventoryDuringScene();
         session.setBlockingInventory(blockInventoryDuringScene);
 
-        CutscenePath cutscenePath = buildCutscenePath(scene);
-        session.setCutscenePath(cutscenePath);
+        CameraTimelineCache.CompiledCameraTimeline compiled = cameraTimelineCache.get(scene);
+        session.setCutscenePath(compiled.getPath());
+        session.setCameraSampler(compiled.getSampler());
         session.resetSegmentCommandExecution();
-        java.util.List<CutsceneFrame> timeline = CutsceneTimelineBuilder.build(cutscenePath);
+        CameraFrameBuffer timeline = compiled.getFrames();
         if (timeline.isEmpty()) {
             sessions.remove(player.getUniqueId());
             plugin.getLogger().severe("Scene " + scene.getName() + " has no camera points, aborting start for " + player.getName());
             return null;
         }
-        session.setCutscenePath(cutscenePath);
         session.setCameraTimeline(timeline);
 
-        Location rigStartLocation = timeline.get(0).getLocation().clone();
-        rigStartLocation.setWorld(player.getWorld());
-
-        Entity rig = ensureCameraPointRigs(session, player);
-        if (rig == null) {
-            sessions.remove(player.getUniqueId());
-            plugin.getLogger().severe("Unable to spawn camera rig for " + player.getName()
-                    + " at " + rigStartLocation + "; aborting scene start.");
-            return null;
-        }
-        forceLoadRigChunk(session, rigStartLocation);
-        if (plugin.getConfig().getBoolean("camera.hide-others", true)) {
-            visibilityController.hideEntityFromAllExcept(rig, player);
+        Location rigStartLocation = timeline.applyTo(0, new Location(player.getWorld(), 0.0D, 0.0D, 0.0D));
+
+        CameraRigMode rigMode = readCameraRigMode();
+        session.setCameraRigMode(rigMode);
+        PacketCameraRig packetRig = rigMode == CameraRigMode.MOVING ? createPacketCameraRig(player) : null;
+        Entity rig = null;
+        if (packetRig != null) {
+            session.setPacketCameraRig(packetRig);
+            teleportPlayerWithDebug(player, rigStartLocation, "start_scene_packet_camera");
+            packetRig.spawn(rigStartLocation.getX(), rigStartLocation.getY(), rigStartLocation.getZ(),
+                    rigStartLocation.getYaw(), rigStartLocation.getPitch());
+        } else if (rigMode == CameraRigMode.MOVING) {
+            if (CameraEntityFactory.isDisplayRig(plugin)) {
+                session.setCameraRigInterpolationTicks(CameraEntityFactory.getInterpolationTicks(plugin));
+            }
+            rig = ensureCameraRig(session, player, rigStartLocation);
+            session.setCameraRigEntity(rig);
+        } else {
+            rig = ensureCameraPointRigs(session, player);
+        }
+        if (packetRig == null) {
+            if (rig == null) {
+                sessions.remove(player.getUniqueId());
+                plugin.getLogger().severe("Unable to spawn camera rig for " + player.getName()
+                        + " at " + rigStartLocation + "; aborting scene start.");
+                return null;
+            }
+            forceLoadRigChunk(session, rigStartLocation);
+            if (plugin.getSceneConfig().isHideOthers()) {
+                visibilityController.restrictTo(rig, player);
+            } else {
+                visibilityController.showEntityToPlayer(rig, player);
+            }
         }
-        visibilityController.showEntityToPlayer(rig, player);
 
         session.setRestorePending(false);
         ItemStack originalHelmet = session.getSnapshot().getHelmet();
         session.setOriginalHelmet(originalHelmet == null ? null : originalHelmet.clone());
-        if (plugin.getConfig().getBoolean("camera.fake-equip", true)) {
-            double speed = plugin.getConfig().getDouble("camera.fake-helmet-movement-speed", 10.0D);
+        if (plugin.getSceneConfig().isCameraFakeEquip()) {
+            double speed = plugin.getSceneConfig().getCameraFakeHelmetMovementSpeed();
             protocolAdapter.sendFakeHelmet(player, protocolAdapter.createMovementLockedPumpkin(speed));
         }
         applyCinematicZoom(player);
         applyMovementLock(player);
         applyCameraZoomEffect(player);
 
-        if (blockInventoryDuringScene) {
+        if (packetRig != null) {
+            player.setGameMode(GameMode.SPECTATOR);
+            packetRig.attach();
+            session.setCameraRigHandoffId(packetRig.getUniqueId());
+            session.setPlayerCameraActive(false);
+            session.setSpectatorHandshakeComplete(true);
+        } else if (blockInventoryDuringScene) {
             player.setGameMode(GameMode.SPECTATOR);
             protocolAdapter.applySpectatorCamera(player, rig);
             session.setPlayerCameraActive(false);
@@ -129,7 +383,15 @@ public class SceneSessionManager {
             session.setSpectatorHandshakeComplete(true);
         }
 
+        if (shared != null) {
+            shared.addViewer(player.getUniqueId());
+            for (Entity entity : shared.getStage().getSceneEntities()) {
+                visibilityController.addViewer(entity, player);
+            }
+        }
         plugin.getRuntimeEngine().startSession(session);
+        isolatePackets(session, player);
+        lockInput(player);
 
         Bukkit.getPluginManager().callEvent(new SceneStartEvent(player, scene));
         return session;
@@ -168,6 +430,11 @@ public class SceneSessionManager {
         Player player = Bukkit.getPlayer(playerId);
         if (player != null) {
             pendingRestores.remove(playerId);
+            PacketCameraRig packetRig = session.getPacketCameraRig();
+            if (packetRig != null) {
+                packetRig.detach();
+                packetRig.destroy();
+            }
             restorePlayerState(player, session);
             if (teleportOnEnd) {
                 teleportOnEnd(player, session);
@@ -177,12 +444,14 @@ public class SceneSessionManager {
             pendingRestores.remove(playerId);
         }
 
-        for (org.bukkit.scheduler.BukkitTask owned : session.getOwnedTasks()) {
-            owned.cancel();
-        }
+        releasePacketIsolation(playerId, player);
+        unlockInput(playerId, player, teleportOnEnd);
         session.clearOwnedTasks();
         releaseForcedChunk(session);
         cleanupSessionEntities(session);
+        if (session.getSharedInstance() != null) {
+            leaveSharedInstance(session, player);
+        }
 
         if (session.getPlaybackTeleportCount() > 0) {
             plugin.getLogger().severe("Playback teleports detected for session=" + session.getSessionId()
@@ -272,16 +541,38 @@ public class SceneSessionManager {
         if (pointIndex >= 0) {
             session.registerCameraPointRig(pointIndex, rig.getUniqueId());
         }
-        if (plugin.getConfig().getBoolean("camera.hide-others", true)) {
-            visibilityController.hideEntityFromAllExcept(rig, viewer);
+        if (plugin.getSceneConfig().isHideOthers()) {
+            visibilityController.restrictTo(rig, viewer);
+        } else {
+            visibilityController.showEntityToPlayer(rig, viewer);
         }
-        visibilityController.showEntityToPlayer(rig, viewer);
         plugin.getLogger().warning("Recreated missing camera rig for " + viewer.getName()
                 + " session=" + session.getSessionId()
                 + " rig=" + rig.getUniqueId());
         return rig;
     }
 
+    private PacketCameraRig createPacketCameraRig(Player player) {
+        CameraRigBackend backend = plugin.getSceneConfig().getCameraBackend();
+        if (backend == CameraRigBackend.ENTITY) {
+            return null;
+        }
+        VirtualEntityPackets packets = protocolAdapter.getVirtualEntityPackets();
+        if (packets == null) {
+            if (backend == CameraRigBackend.PACKET) {
+                plugin.getLogger().warning("camera.backend PACKET requires ProtocolLib; using an entity camera rig.");
+            }
+            return null;
+        }
+        PacketCameraRig packetRig = new PacketCameraRig(packets, player);
+        packetRig.setResyncInterval(protocolAdapter.getPacketResyncInterval());
+        return packetRig;
+    }
+
+    private CameraRigMode readCameraRigMode() {
+        return plugin.getSceneConfig().getRigMode();
+    }
+
     private Entity ensureCameraPointRigs(SceneSession session, Player viewer) {
         CutscenePath path = session.getCutscenePath();
         if (path == null || path.getPoints().isEmpty()) {
@@ -343,6 +634,10 @@ public class SceneSessionManager {
         if (location == null || location.getWorld() == null) {
             return null;
         }
+        Entity pooled = entityPool.checkoutRig(location);
+        if (pooled != null) {
+            return pooled;
+        }
         try {
             Entity camera = CameraEntityFactory.spawn(plugin, location);
             return camera != null && camera.isValid() ? camera : null;
@@ -358,7 +653,12 @@ public class SceneSessionManager {
             return;
         }
         for (Entity entity : session.getSceneEntities()) {
-            visibilityController.hideEntityFromAllExcept(entity, player);
+            visibilityController.restrictTo(entity, player);
+        }
+        if (session.getSharedInstance() != null) {
+            for (Entity entity : session.getSharedInstance().getStage().getSceneEntities()) {
+                visibilityController.addViewer(entity, player);
+            }
         }
     }
 
@@ -417,8 +717,8 @@ public class SceneSessionManager {
     }
 
     private void applyCinematicZoom(Player player) {
-        int amplifier = Math.max(0, plugin.getConfig().getInt("camera.zoom-slowness-amplifier", 3));
-        int durationTicks = Math.max(40, plugin.getConfig().getInt("camera.zoom-slowness-duration-ticks", 1200));
+        int amplifier = plugin.getSceneConfig().getZoomSlownessAmplifier();
+        int durationTicks = plugin.getSceneConfig().getZoomSlownessDurationTicks();
         player.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, durationTicks, amplifier, false, false, false));
     }
 
@@ -515,12 +815,27 @@ public class SceneSessionManager {
     private void cleanupSessionEntities(SceneSession session) {
         for (SessionActorHandle actorHandle : session.getActorHandles().values()) {
             if (actorHandle.getCitizensNpc() != null && citizensAdapter.isAvailable()) {
-                citizensAdapter.destroy(actorHandle.getCitizensNpc());
+                Entity entity = actorHandle.getEntity();
+                if (entity != null) {
+                    session.unregisterEntity(entity);
+                    unregisterSceneEntity(entity);
+                }
+                SceneActorTemplate template = session.getScene().getActorTemplate(actorHandle.getActorId());
+                entityPool.releaseNpc(actorHandle.getCitizensNpc(), entity,
+                        template == null ? null : template.getDisplayName());
             }
+            plugin.getRuntimeEngine().destroyPacketActor(actorHandle.getPacketActor());
         }
-        for (Entity entity : session.getSceneEntities()) {
+        Set<UUID> rigIds = new HashSet<>(session.getCameraPointRigIds().values());
+        if (session.getCameraRigId() != null) {
+            rigIds.add(session.getCameraRigId());
+        }
+        for (Entity entity : new java.util.ArrayList<>(session.getSceneEntities())) {
             unregisterSceneEntity(entity);
-            if (entity.isValid()) {
+            if (rigIds.contains(entity.getUniqueId())) {
+                session.unregisterEntity(entity);
+                entityPool.releaseRig(entity);
+            } else if (entity.isValid()) {
                 entity.remove();
             }
         }
@@ -539,38 +854,31 @@ public class SceneSessionManager {
     }
 
     private void startSpectatorHandshake(SceneSession ownerSession, UUID playerId, UUID rigId) {
-        org.bukkit.scheduler.BukkitTask task = new org.bukkit.scheduler.BukkitRunnable() {
+        ownerSession.registerOwnedTask(new SceneSessionTask() {
             private int tick = 0;
 
             @Override
-            public void run() {
-                SceneSession session = sessions.get(playerId);
-                if (session == null) {
-                    cancel();
-                    return;
-                }
+            public boolean tick(SceneSession session) {
                 Player player = Bukkit.getPlayer(playerId);
                 if (player == null) {
-                    cancel();
-                    return;
+                    return true;
                 }
                 Entity rig = Bukkit.getEntity(rigId);
                 if (rig == null || !rig.isValid()) {
                     plugin.getLogger().warning("Camera rig missing before spectator lock completed for " + player.getName());
-                    cancel();
-                    return;
+                    return true;
                 }
 
                 if (tick == 0) {
                     player.setGameMode(GameMode.SPECTATOR);
                     tick++;
-                    return;
+                    return false;
                 }
                 if (tick == 1) {
                     protocolAdapter.applySpectatorCamera(player, rig);
                     session.incrementSpectatorHandshakeAttempts();
                     tick++;
-                    return;
+                    return false;
                 }
 
                 Entity current = player.getSpectatorTarget();
@@ -579,8 +887,7 @@ public class SceneSessionManager {
                     session.setSpectatorHandshakeComplete(true);
                     plugin.getLogger().info("Spectator lock handshake succeeded for " + player.getName()
                             + " after attempts=" + session.getSpectatorHandshakeAttempts());
-                    cancel();
-                    return;
+                    return true;
                 }
 
                 if (tick <= 10) {
@@ -589,16 +896,15 @@ public class SceneSessionManager {
                     plugin.getLogger().warning("Spectator lock handshake retry tick=" + tick
                             + " for " + player.getName());
                     tick++;
-                    return;
+                    return false;
                 }
 
                 plugin.getLogger().severe("Spectator lock handshake failed for " + player.getName()
                         + " after attempts=" + session.getSpectatorHandshakeAttempts());
-                cancel();
                 abortSession(playerId, "spectator_handshake_failed");
+                return true;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
-        ownerSession.registerOwnedTask(task);
+        });
     }
 
     private Location resolveRigStartLocation(Player player, Scene scene) {
@@ -615,87 +921,22 @@ public class SceneSessionManager {
         return player.getLocation().clone();
     }
 
-    private CutscenePath buildCutscenePath(Scene scene) {
-        Track<CameraKeyframe> cameraTrack = scene.getTrack(SceneTrackType.CAMERA);
-        java.util.List<CameraKeyframe> points = cameraTrack == null
-                ? java.util.Collections.emptyList()
-                : new java.util.ArrayList<>(cameraTrack.getKeyframes());
-        double stepResolution = plugin.getConfig().getDouble("camera.step-resolution", 0.35D);
-        String rawSegments = plugin.getConfig().getString("camera.player-segments", "");
-        java.util.List<CutscenePath.IntRange> segments = new java.util.ArrayList<>();
-        if (rawSegments != null && !rawSegments.isBlank()) {
-            for (String token : rawSegments.split(",")) {
-                String value = token.trim();
-                if (value.isBlank()) {
-                    continue;
-                }
-                if (value.contains("-")) {
-                    String[] split = value.split("-");
-                    if (split.length == 2) {
-                        try {
-                            int start = Integer.parseInt(split[0].trim());
-                            int end = Integer.parseInt(split[1].trim());
-                            segments.add(new CutscenePath.IntRange(Math.min(start, end), Math.max(start, end)));
-                        } catch (NumberFormatException ignored) {
-                        }
-                    }
-                } else {
-                    try {
-                        int index = Integer.parseInt(value);
-                        segments.add(new CutscenePath.IntRange(index, index));
-                    } catch (NumberFormatException ignored) {
-                    }
-                }
-            }
-        }
-        int durationTicks = scene.getDurationTicks() <= 0
-                ? Math.max(1, points.stream().mapToInt(CameraKeyframe::getTimeTicks).max().orElse(0) + 1)
-                : scene.getDurationTicks();
-        java.util.List<String> startCommands = plugin.getConfig().getStringList("camera.start-commands");
-        java.util.Map<Integer, java.util.List<String>> segmentCommands = new java.util.LinkedHashMap<>();
-        org.bukkit.configuration.ConfigurationSection section = plugin.getConfig().getConfigurationSection("camera.segment-commands");
-        if (section != null) {
-            for (String key : section.getKeys(false)) {
-                try {
-                    int segment = Integer.parseInt(key.trim());
-                    segmentCommands.put(segment, section.getStringList(key));
-                } catch (NumberFormatException ignored) {
-                }
-            }
-        }
-        java.util.Set<Integer> directPoints = new java.util.LinkedHashSet<>();
-        org.bukkit.Particle particle = org.bukkit.Particle.END_ROD;
-        CutscenePath stored = plugin.getCutscenePathRegistry() == null ? null : plugin.getCutscenePathRegistry().getPath(scene.getName());
-        if (stored != null) {
-            return stored;
-        }
-        return new CutscenePath(durationTicks, stepResolution, scene.getDefaultSmoothing(), points, segments,
-                directPoints, startCommands, segmentCommands, particle);
-    }
-
-
     private boolean isFakeEquipEnabled() {
-        if (plugin.getConfig().isSet("cutscene.fake-equip")) {
-            return plugin.getConfig().getBoolean("cutscene.fake-equip", true);
-        }
-        return plugin.getConfig().getBoolean("camera.fake-equip", true);
+        return plugin.getSceneConfig().isCutsceneFakeEquip();
     }
 
     private double getFakeHelmetMovementSpeed() {
-        if (plugin.getConfig().isSet("cutscene.fake-helmet-movement-speed")) {
-            return plugin.getConfig().getDouble("cutscene.fake-helmet-movement-speed", 10.0D);
-        }
-        return plugin.getConfig().getDouble("camera.fake-helmet-movement-speed", 10.0D);
+        return plugin.getSceneConfig().getCutsceneFakeHelmetMovementSpeed();
     }
 
     private void applyCameraZoomEffect(Player player) {
         if (player == null) {
             return;
         }
-        if (!plugin.getConfig().getBoolean("camera.zoom.enabled", true)) {
+        if (!plugin.getSceneConfig().isZoomEnabled()) {
             return;
         }
-        int amplifier = Math.max(0, plugin.getConfig().getInt("camera.zoom.slowness-level", 6) - 1);
+        int amplifier = plugin.getSceneConfig().getZoomEffectAmplifier();
         PotionEffect effect = new PotionEffect(PotionEffectType.SLOWNESS, Integer.MAX_VALUE, amplifier, false, false, false);
         player.addPotionEffect(effect, true);
     }
@@ -0,0 +1,12 @@
+package com.extrascenes.scene;
+
+/**
+ * Per-session work run by the playback driver once per server tick, before the session's own playback tick.
+ */
+@FunctionalInterface
+public interface SceneSessionTask {
+    /**
+     * @return true once the task is done and should be dropped from the session
+     */
+    boolean tick(SceneSession session);
+}
@@ -1,18 +1,45 @@
 package com.extrascenes.scene;
 
+import com.extrascenes.protocol.PacketActor;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
 
 public class SessionActorHandle {
     private final String actorId;
     private final Object citizensNpc;
     private final Entity entity;
+    private final PacketActor packetActor;
     private boolean spawned;
-    private Transform lastTransform;
+    private int lastMotionTick = -1;
+    private ActorSpawnSchedule spawnSchedule;
+    private boolean nameplateCleared;
+    private double appliedScale = Double.NaN;
+    private Boolean appliedGliding;
+    private Boolean appliedInvisible;
+    private boolean poseApplied;
+    private World poseWorld;
+    private double poseX;
+    private double poseY;
+    private double poseZ;
+    private float poseYaw;
+    private float posePitch;
+    private long appliedWrites;
+    private long suppressedWrites;
 
     public SessionActorHandle(String actorId, Object citizensNpc, Entity entity) {
         this.actorId = actorId;
         this.citizensNpc = citizensNpc;
         this.entity = entity;
+        this.packetActor = null;
+        this.spawned = true;
+    }
+
+    public SessionActorHandle(String actorId, PacketActor packetActor) {
+        this.actorId = actorId;
+        this.citizensNpc = null;
+        this.entity = null;
+        this.packetActor = packetActor;
         this.spawned = true;
     }
 
@@ -28,6 +55,10 @@ public class SessionActorHandle {
         return entity;
     }
 
+    public PacketActor getPacketActor() {
+        return packetActor;
+    }
+
     public boolean isSpawned() {
         return spawned;
     }
@@ -36,11 +67,104 @@ public class SessionActorHandle {
         this.spawned = spawned;
     }
 
-    public Transform getLastTransform() {
-        return lastTransform;
+    public int getLastMotionTick() {
+        return lastMotionTick;
+    }
+
+    public void setLastMotionTick(int lastMotionTick) {
+        this.lastMotionTick = lastMotionTick;
+    }
+
+    public ActorSpawnSchedule getSpawnSchedule() {
+        return spawnSchedule;
+    }
+
+    public void setSpawnSchedule(ActorSpawnSchedule spawnSchedule) {
+        this.spawnSchedule = spawnSchedule;
+    }
+
+    public boolean shouldClearNameplate(boolean nameplateShowing) {
+        if (nameplateCleared && !nameplateShowing) {
+            suppressedWrites++;
+            return false;
+        }
+        nameplateCleared = true;
+        appliedWrites++;
+        return true;
+    }
+
+    public boolean shouldApplyScale(double scale) {
+        if (Double.compare(appliedScale, scale) == 0) {
+            suppressedWrites++;
+            return false;
+        }
+        appliedScale = scale;
+        appliedWrites++;
+        return true;
+    }
+
+    public boolean shouldApplyGliding(boolean gliding) {
+        if (appliedGliding != null && appliedGliding == gliding) {
+            suppressedWrites++;
+            return false;
+        }
+        appliedGliding = gliding;
+        appliedWrites++;
+        return true;
+    }
+
+    public boolean shouldApplyInvisible(boolean invisible) {
+        if (appliedInvisible != null && appliedInvisible == invisible) {
+            suppressedWrites++;
+            return false;
+        }
+        appliedInvisible = invisible;
+        appliedWrites++;
+        return true;
+    }
+
+    /**
+     * Records an invisibility state applied directly to the entity, without counting it as a write.
+     */
+    public void markInvisibleApplied(boolean invisible) {
+        appliedInvisible = invisible;
+    }
+
+    /**
+     * @return true when the last applied pose already has the target's world and position
+     */
+    public boolean isPosePosition(Location target) {
+        return poseApplied && poseWorld == target.getWorld()
+                && poseX == target.getX() && poseY == target.getY() && poseZ == target.getZ();
+    }
+
+    public boolean shouldApplyPose(Location target) {
+        if (poseApplied && poseWorld == target.getWorld()
+                && poseX == target.getX() && poseY == target.getY() && poseZ == target.getZ()
+                && poseYaw == target.getYaw() && posePitch == target.getPitch()) {
+            suppressedWrites++;
+            return false;
+        }
+        poseApplied = true;
+        poseWorld = target.getWorld();
+        poseX = target.getX();
+        poseY = target.getY();
+        poseZ = target.getZ();
+        poseYaw = target.getYaw();
+        posePitch = target.getPitch();
+        appliedWrites++;
+        return true;
+    }
+
+    public void invalidatePose() {
+        poseApplied = false;
+    }
+
+    public long getAppliedWrites() {
+        return appliedWrites;
     }
 
-    public void setLastTransform(Transform lastTransform) {
-        this.lastTransform = lastTransform;
+    public long getSuppressedWrites() {
+        return suppressedWrites;
     }
 }
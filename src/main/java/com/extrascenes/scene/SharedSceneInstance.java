@@ -0,0 +1,79 @@
+package com.extrascenes.scene;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One playback of a scene watched by several viewers. The instance owns the clock and a stage session that
+ * holds the shared Citizens actors and models; every viewer keeps a normal session for its own camera,
+ * player-state snapshot and per-viewer effects, with its time taken from the instance.
+ */
+public class SharedSceneInstance {
+    private final UUID instanceId = UUID.randomUUID();
+    private final Scene scene;
+    private final SceneSession stage;
+    private final Set<UUID> viewerIds = new LinkedHashSet<>();
+    private int timeTicks;
+    private int lastServerTick = Integer.MIN_VALUE;
+
+    public SharedSceneInstance(Scene scene, SceneSession stage) {
+        this.scene = scene;
+        this.stage = stage;
+        this.timeTicks = stage.getTimeTicks();
+    }
+
+    public UUID getInstanceId() {
+        return instanceId;
+    }
+
+    public Scene getScene() {
+        return scene;
+    }
+
+    public SceneSession getStage() {
+        return stage;
+    }
+
+    public Set<UUID> getViewerIds() {
+        return Collections.unmodifiableSet(viewerIds);
+    }
+
+    public boolean addViewer(UUID viewerId) {
+        return viewerIds.add(viewerId);
+    }
+
+    public boolean removeViewer(UUID viewerId) {
+        return viewerIds.remove(viewerId);
+    }
+
+    public boolean hasViewer(UUID viewerId) {
+        return viewerIds.contains(viewerId);
+    }
+
+    public boolean isEmpty() {
+        return viewerIds.isEmpty();
+    }
+
+    public int getTimeTicks() {
+        return timeTicks;
+    }
+
+    /**
+     * Advances the clock once per server tick, no matter how many viewers tick in it.
+     *
+     * @return true for the first viewer of the server tick, which then ticks the stage
+     */
+    public boolean advance(int serverTick) {
+        if (serverTick == lastServerTick) {
+            return false;
+        }
+        if (lastServerTick != Integer.MIN_VALUE) {
+            timeTicks++;
+        }
+        lastServerTick = serverTick;
+        stage.setTimeTicks(timeTicks);
+        return true;
+    }
+}
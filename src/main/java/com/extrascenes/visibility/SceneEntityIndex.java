@@ -0,0 +1,139 @@
+package com.extrascenes.visibility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+/**
+ * Buckets scoped scene entities by world and chunk. An entity is filed under the chunk it was in when it was
+ * added or last relocated; a query re-files any entity it finds in a stale bucket, so moving entities drift back
+ * into place as they are looked at instead of being tracked every tick.
+ */
+public class SceneEntityIndex {
+    private final Map<String, Map<Long, Set<UUID>>> buckets = new HashMap<>();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+
+    public void add(Entity entity) {
+        if (entity == null || entity.getWorld() == null) {
+            return;
+        }
+        Entry entry = entries.get(entity.getUniqueId());
+        if (entry == null) {
+            entry = new Entry(entity);
+            entries.put(entity.getUniqueId(), entry);
+            file(entry);
+            return;
+        }
+        relocate(entry);
+    }
+
+    public void remove(UUID entityId) {
+        Entry entry = entries.remove(entityId);
+        if (entry != null) {
+            unfile(entry);
+        }
+    }
+
+    public boolean hasWorld(String worldName) {
+        return buckets.containsKey(worldName);
+    }
+
+    /**
+     * @return live entities filed in the square of chunks around the location
+     */
+    public List<Entity> query(Location location, int radiusChunks) {
+        if (location == null || location.getWorld() == null) {
+            return Collections.emptyList();
+        }
+        Map<Long, Set<UUID>> worldBuckets = buckets.get(location.getWorld().getName());
+        if (worldBuckets == null) {
+            return Collections.emptyList();
+        }
+        int centerX = location.getBlockX() >> 4;
+        int centerZ = location.getBlockZ() >> 4;
+        List<Entry> found = new ArrayList<>();
+        for (int cx = centerX - radiusChunks; cx <= centerX + radiusChunks; cx++) {
+            for (int cz = centerZ - radiusChunks; cz <= centerZ + radiusChunks; cz++) {
+                Set<UUID> bucket = worldBuckets.get(key(cx, cz));
+                if (bucket == null) {
+                    continue;
+                }
+                for (UUID entityId : bucket) {
+                    found.add(entries.get(entityId));
+                }
+            }
+        }
+        List<Entity> entities = new ArrayList<>(found.size());
+        for (Entry entry : found) {
+            if (entry == null || !entry.entity.isValid()) {
+                continue;
+            }
+            relocate(entry);
+            entities.add(entry.entity);
+        }
+        return entities;
+    }
+
+    private void relocate(Entry entry) {
+        Location location = entry.entity.getLocation();
+        if (location.getWorld() == null) {
+            return;
+        }
+        String worldName = location.getWorld().getName();
+        long key = key(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        if (worldName.equals(entry.worldName) && key == entry.chunkKey) {
+            return;
+        }
+        unfile(entry);
+        entry.worldName = worldName;
+        entry.chunkKey = key;
+        file(entry);
+    }
+
+    private void file(Entry entry) {
+        buckets.computeIfAbsent(entry.worldName, ignored -> new HashMap<>())
+                .computeIfAbsent(entry.chunkKey, ignored -> new HashSet<>())
+                .add(entry.entity.getUniqueId());
+    }
+
+    private void unfile(Entry entry) {
+        Map<Long, Set<UUID>> worldBuckets = buckets.get(entry.worldName);
+        if (worldBuckets == null) {
+            return;
+        }
+        Set<UUID> bucket = worldBuckets.get(entry.chunkKey);
+        if (bucket != null) {
+            bucket.remove(entry.entity.getUniqueId());
+            if (bucket.isEmpty()) {
+                worldBuckets.remove(entry.chunkKey);
+            }
+        }
+        if (worldBuckets.isEmpty()) {
+            buckets.remove(entry.worldName);
+        }
+    }
+
+    private static long key(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private static final class Entry {
+        private final Entity entity;
+        private String worldName;
+        private long chunkKey;
+
+        private Entry(Entity entity) {
+            this.entity = entity;
+            Location location = entity.getLocation();
+            this.worldName = location.getWorld().getName();
+            this.chunkKey = key(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package com.extrascenes.visibility;
 
 import com.extrascenes.ExtraScenesPlugin;
-import com.extrascenes.scene.SceneSession;
-import com.extrascenes.scene.SceneSessionManager;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -11,44 +9,119 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 
+/**
+ * Keeps scene entities visible to their viewers only. A scoped entity is made invisible by default once, at
+ * registration, so every other player - including players who join later - never receives it; only the viewers
+ * in its scope get an explicit show. After that, work happens only on deltas: viewers added to or removed from a
+ * scope, and viewers joining, quitting or changing world. Re-scoping an entity to the viewers it already has is
+ * a no-op, so callers may re-assert a scope from the tick loop without cost. Scoped entities are also filed in a
+ * {@link SceneEntityIndex} so join and teleport reconciliation only checks the chunks around the player.
+ */
 public class SceneVisibilityController {
     private final ExtraScenesPlugin plugin;
+    private final Map<UUID, Scope> scopesByEntity = new HashMap<>();
+    private final Map<UUID, Set<UUID>> entitiesByViewer = new HashMap<>();
     private final Map<UUID, Set<UUID>> hiddenPlayersByEntity = new HashMap<>();
-    private final Map<UUID, Set<UUID>> shownPlayersByEntity = new HashMap<>();
+    private final SceneEntityIndex entityIndex = new SceneEntityIndex();
+    private long showCalls;
+    private long hideCalls;
+    private long reconcileEvents;
+    private long reconcileSkipped;
+    private long reconcileChecked;
+    private long reconcileCorrections;
 
     public SceneVisibilityController(ExtraScenesPlugin plugin) {
         this.plugin = plugin;
     }
 
-    public void hideEntityFromAllExcept(Entity entity, Player owner) {
-        if (entity == null || owner == null) {
+    /**
+     * Restricts the entity to a single viewer.
+     */
+    public void restrictTo(Entity entity, Player viewer) {
+        if (entity == null || viewer == null) {
             return;
         }
-        for (Player online : Bukkit.getOnlinePlayers()) {
-            if (!online.getUniqueId().equals(owner.getUniqueId())) {
-                online.hideEntity(plugin, entity);
-                hiddenPlayersByEntity.computeIfAbsent(entity.getUniqueId(), ignored -> new HashSet<>())
-                        .add(online.getUniqueId());
+        Scope scope = scopesByEntity.get(entity.getUniqueId());
+        if (scope != null && scope.viewers.size() == 1
+                && scope.viewers.contains(viewer.getUniqueId()) && !entity.isVisibleByDefault()) {
+            return;
+        }
+        restrictTo(entity, Set.of(viewer.getUniqueId()));
+    }
+
+    /**
+     * Restricts the entity to the given viewers, applying only the difference to its current scope. An empty
+     * collection hides the entity from everyone.
+     */
+    public void restrictTo(Entity entity, Collection<UUID> viewers) {
+        if (entity == null) {
+            return;
+        }
+        UUID entityId = entity.getUniqueId();
+        Scope scope = scopesByEntity.get(entityId);
+        if (scope == null) {
+            scope = new Scope(entity);
+            scopesByEntity.put(entityId, scope);
+        }
+        entityIndex.add(entity);
+        if (entity.isVisibleByDefault()) {
+            entity.setVisibleByDefault(false);
+        }
+        hiddenPlayersByEntity.remove(entityId);
+        for (UUID viewerId : new HashSet<>(scope.viewers)) {
+            if (!viewers.contains(viewerId)) {
+                removeViewer(scope, viewerId);
+            }
+        }
+        for (UUID viewerId : viewers) {
+            if (!scope.viewers.contains(viewerId)) {
+                addViewer(scope, viewerId);
             }
         }
     }
 
-    public void hideEntitiesFromAllExcept(Collection<Entity> entities, Player owner) {
-        for (Entity entity : entities) {
-            hideEntityFromAllExcept(entity, owner);
+    public void addViewer(Entity entity, Player viewer) {
+        if (entity == null || viewer == null) {
+            return;
+        }
+        Scope scope = scopesByEntity.get(entity.getUniqueId());
+        if (scope == null) {
+            restrictTo(entity, Set.of(viewer.getUniqueId()));
+            return;
+        }
+        if (!scope.viewers.contains(viewer.getUniqueId())) {
+            addViewer(scope, viewer.getUniqueId());
+        }
+    }
+
+    public void removeViewer(Entity entity, Player viewer) {
+        if (entity == null || viewer == null) {
+            return;
+        }
+        Scope scope = scopesByEntity.get(entity.getUniqueId());
+        if (scope != null && scope.viewers.contains(viewer.getUniqueId())) {
+            removeViewer(scope, viewer.getUniqueId());
         }
     }
 
+    /**
+     * Shows an unscoped entity to one player, e.g. when {@code camera.hide-others} is disabled.
+     */
     public void showEntityToPlayer(Entity entity, Player player) {
         if (entity == null || player == null) {
             return;
         }
+        Scope scope = scopesByEntity.get(entity.getUniqueId());
+        if (scope != null) {
+            addViewer(entity, player);
+            return;
+        }
         player.showEntity(plugin, entity);
-        shownPlayersByEntity.computeIfAbsent(entity.getUniqueId(), ignored -> new HashSet<>())
-                .add(player.getUniqueId());
+        showCalls++;
         Set<UUID> hidden = hiddenPlayersByEntity.get(entity.getUniqueId());
         if (hidden != null) {
             hidden.remove(player.getUniqueId());
@@ -59,25 +132,79 @@ public class SceneVisibilityController {
         if (entity == null || player == null) {
             return;
         }
+        Scope scope = scopesByEntity.get(entity.getUniqueId());
+        if (scope != null) {
+            removeViewer(entity, player);
+            return;
+        }
         player.hideEntity(plugin, entity);
+        hideCalls++;
         hiddenPlayersByEntity.computeIfAbsent(entity.getUniqueId(), ignored -> new HashSet<>())
                 .add(player.getUniqueId());
     }
 
-    public void hideAllSceneEntities(Player joiningPlayer) {
-        SceneSessionManager sessionManager = plugin.getSessionManager();
-        if (sessionManager == null) {
+    /**
+     * Scoped entities stay hidden from a joining player on their own; this only re-shows the entities the player
+     * is still a viewer of.
+     */
+    public void handleJoin(Player player) {
+        showViewerEntities(player);
+        reconcile(player, player.getLocation());
+    }
+
+    public void handleQuit(Player player) {
+        Set<UUID> entityIds = entitiesByViewer.remove(player.getUniqueId());
+        if (entityIds == null) {
             return;
         }
-        for (SceneSession session : sessionManager.getActiveSessions()) {
-            for (Entity entity : session.getSceneEntities()) {
-                joiningPlayer.hideEntity(plugin, entity);
-                hiddenPlayersByEntity.computeIfAbsent(entity.getUniqueId(), ignored -> new HashSet<>())
-                        .add(joiningPlayer.getUniqueId());
+        for (UUID entityId : entityIds) {
+            Scope scope = scopesByEntity.get(entityId);
+            if (scope != null) {
+                scope.viewers.remove(player.getUniqueId());
             }
         }
     }
 
+    public void handleWorldChange(Player player) {
+        showViewerEntities(player);
+    }
+
+    /**
+     * Checks the scoped entities filed around the destination and corrects any whose client visibility disagrees
+     * with the scope. Returns immediately when nothing is scoped in the destination world.
+     */
+    public void reconcile(Player player, Location destination) {
+        reconcileEvents++;
+        if (player == null || destination == null || destination.getWorld() == null
+                || !entityIndex.hasWorld(destination.getWorld().getName())) {
+            reconcileSkipped++;
+            return;
+        }
+        for (Entity entity : entityIndex.query(destination, player.getViewDistance())) {
+            Scope scope = scopesByEntity.get(entity.getUniqueId());
+            if (scope == null) {
+                continue;
+            }
+            reconcileChecked++;
+            boolean viewer = scope.viewers.contains(player.getUniqueId());
+            if (viewer == player.canSee(entity)) {
+                continue;
+            }
+            if (viewer) {
+                player.showEntity(plugin, entity);
+                showCalls++;
+            } else {
+                player.hideEntity(plugin, entity);
+                hideCalls++;
+            }
+            reconcileCorrections++;
+        }
+    }
+
+    public boolean isScoped(UUID entityId) {
+        return scopesByEntity.containsKey(entityId);
+    }
+
     public Set<UUID> getHiddenPlayers(UUID entityId) {
         return hiddenPlayersByEntity.containsKey(entityId)
                 ? Collections.unmodifiableSet(hiddenPlayersByEntity.get(entityId))
@@ -85,13 +212,109 @@ public class SceneVisibilityController {
     }
 
     public Set<UUID> getShownPlayers(UUID entityId) {
-        return shownPlayersByEntity.containsKey(entityId)
-                ? Collections.unmodifiableSet(shownPlayersByEntity.get(entityId))
-                : Collections.emptySet();
+        Scope scope = scopesByEntity.get(entityId);
+        return scope == null ? Collections.emptySet() : Collections.unmodifiableSet(scope.viewers);
+    }
+
+    public int getScopedEntityCount() {
+        return scopesByEntity.size();
+    }
+
+    public long getShowCalls() {
+        return showCalls;
+    }
+
+    public long getHideCalls() {
+        return hideCalls;
+    }
+
+    public long getReconcileEvents() {
+        return reconcileEvents;
+    }
+
+    public long getReconcileSkipped() {
+        return reconcileSkipped;
+    }
+
+    public long getReconcileChecked() {
+        return reconcileChecked;
+    }
+
+    public long getReconcileCorrections() {
+        return reconcileCorrections;
     }
 
+    /**
+     * Drops the entity from the engine, hiding it from its current viewers if it is still alive.
+     */
     public void clearEntity(UUID entityId) {
         hiddenPlayersByEntity.remove(entityId);
-        shownPlayersByEntity.remove(entityId);
+        entityIndex.remove(entityId);
+        Scope scope = scopesByEntity.remove(entityId);
+        if (scope == null) {
+            return;
+        }
+        boolean alive = scope.entity.isValid();
+        for (UUID viewerId : scope.viewers) {
+            unindex(viewerId, entityId);
+            Player viewer = alive ? Bukkit.getPlayer(viewerId) : null;
+            if (viewer != null) {
+                viewer.hideEntity(plugin, scope.entity);
+                hideCalls++;
+            }
+        }
+    }
+
+    private void showViewerEntities(Player player) {
+        Set<UUID> entityIds = entitiesByViewer.get(player.getUniqueId());
+        if (entityIds == null) {
+            return;
+        }
+        for (UUID entityId : entityIds) {
+            Scope scope = scopesByEntity.get(entityId);
+            if (scope != null && scope.entity.isValid()) {
+                player.showEntity(plugin, scope.entity);
+                showCalls++;
+            }
+        }
+    }
+
+    private void addViewer(Scope scope, UUID viewerId) {
+        scope.viewers.add(viewerId);
+        entitiesByViewer.computeIfAbsent(viewerId, ignored -> new HashSet<>()).add(scope.entity.getUniqueId());
+        Player viewer = Bukkit.getPlayer(viewerId);
+        if (viewer != null) {
+            viewer.showEntity(plugin, scope.entity);
+            showCalls++;
+        }
+    }
+
+    private void removeViewer(Scope scope, UUID viewerId) {
+        scope.viewers.remove(viewerId);
+        unindex(viewerId, scope.entity.getUniqueId());
+        Player viewer = Bukkit.getPlayer(viewerId);
+        if (viewer != null) {
+            viewer.hideEntity(plugin, scope.entity);
+            hideCalls++;
+        }
+    }
+
+    private void unindex(UUID viewerId, UUID entityId) {
+        Set<UUID> entityIds = entitiesByViewer.get(viewerId);
+        if (entityIds != null) {
+            entityIds.remove(entityId);
+            if (entityIds.isEmpty()) {
+                entitiesByViewer.remove(viewerId);
+            }
+        }
+    }
+
+    private static final class Scope {
+        private final Entity entity;
+        private final Set<UUID> viewers = new HashSet<>();
+
+        private Scope(Entity entity) {
+            this.entity = entity;
+        }
     }
 }